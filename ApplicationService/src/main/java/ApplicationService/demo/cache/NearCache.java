@@ -0,0 +1,187 @@
+package ApplicationService.demo.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Small in-process cache with per-entry TTL and LRU eviction once maxSize is reached.
+// A full cache evicts from the LRU head only; expired entries elsewhere are swept at most
+// once per TTL period, so a put never scans the whole cache while readers wait on the lock.
+public class NearCache<K, V> {
+
+    private static final Duration MIN_SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final String name;
+    private final int maxSize;
+    private final Duration defaultTtl;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long sweepIntervalNanos;
+    private long nextSweepAt;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public NearCache(String name, int maxSize, Duration defaultTtl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+        this.sweepIntervalNanos = Math.max(defaultTtl.toNanos(), MIN_SWEEP_INTERVAL.toNanos());
+        this.nextSweepAt = System.nanoTime() + sweepIntervalNanos;
+    }
+
+    // Returns null on a miss or when the entry has expired
+    public V get(K key) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.expiresAt - now <= 0) {
+                entries.remove(key);
+                expirations.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtl);
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        if (key == null || value == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long expiresAt = now + ttl.toNanos();
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, expiresAt));
+            if (now - nextSweepAt >= 0) {
+                sweepExpired(now);
+            }
+            evictIfNeeded(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            if (entries.remove(key) != null) {
+                invalidations.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidations.addAndGet(entries.size());
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(name, entries.size(), maxSize, hits.get(), misses.get(),
+                    evictions.get(), expirations.get(), invalidations.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Removes from the LRU head: expired entries count as expirations, live ones as evictions
+    private void evictIfNeeded(long now) {
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            Entry<V> entry = eldest.next();
+            eldest.remove();
+            if (entry.expiresAt - now <= 0) {
+                expirations.incrementAndGet();
+            } else {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void sweepExpired(long now) {
+        for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext(); ) {
+            if (it.next().expiresAt - now <= 0) {
+                it.remove();
+                expirations.incrementAndGet();
+            }
+        }
+        nextSweepAt = now + sweepIntervalNanos;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public static class Stats {
+        private final String name;
+        private final int size;
+        private final int maxSize;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final long invalidations;
+
+        public Stats(String name, int size, int maxSize, long hits, long misses,
+                     long evictions, long expirations, long invalidations) {
+            this.name = name;
+            this.size = size;
+            this.maxSize = maxSize;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.invalidations = invalidations;
+        }
+
+        public String getName() { return name; }
+        public int getSize() { return size; }
+        public int getMaxSize() { return maxSize; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getExpirations() { return expirations; }
+        public long getInvalidations() { return invalidations; }
+
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ApplicationService.demo.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One CircuitBreaker per remote dependency, created on first use with the shared settings
+@Component
+public class CircuitBreakers {
+
+    @Value("${breakers.window-size:20}")
+    private int windowSize;
+
+    @Value("${breakers.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${breakers.failure-rate-percent:50}")
+    private int failureRatePercent;
+
+    @Value("${breakers.slow-call-ms:3000}")
+    private long slowCallMillis;
+
+    @Value("${breakers.open-ms:10000}")
+    private long openMillis;
+
+    @Value("${bulkheads.max-concurrent:32}")
+    private int maxConcurrent;
+
+    @Value("${bulkheads.max-wait-ms:50}")
+    private long maxWaitMillis;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreaker get(String dependency) {
+        return breakers.computeIfAbsent(dependency, name -> new CircuitBreaker(name, windowSize, minimumCalls,
+                failureRatePercent, Duration.ofMillis(slowCallMillis), Duration.ofMillis(openMillis),
+                maxConcurrent, Duration.ofMillis(maxWaitMillis)));
+    }
+
+    public List<CircuitBreaker.Stats> stats() {
+        List<CircuitBreaker.Stats> stats = new ArrayList<>();
+        breakers.values().forEach(breaker -> stats.add(breaker.stats()));
+        return stats;
+    }
+}
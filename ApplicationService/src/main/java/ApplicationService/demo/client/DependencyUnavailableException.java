@@ -0,0 +1,13 @@
+package ApplicationService.demo.client;
+
+// A remote dependency could not answer: its circuit is open, its bulkhead is full, or the call
+// failed at the transport level or with a 5xx. Not an answer about the requested data.
+public class DependencyUnavailableException extends RuntimeException {
+    public DependencyUnavailableException(String message) {
+        super(message);
+    }
+
+    public DependencyUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package ApplicationService.demo.client;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class ExistsResponse {
+    private Set<String> existing = new HashSet<>();
+
+    public Set<String> getExisting() { return existing; }
+    public void setExisting(Set<String> existing) { this.existing = existing; }
+}
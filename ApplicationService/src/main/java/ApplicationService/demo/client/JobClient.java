@@ -0,0 +1,163 @@
+package ApplicationService.demo.client;
+
+import ApplicationService.demo.cache.NearCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class JobClient {
+
+    private static final String JOB_SERVICE_URL = "http://JobService/api/jobs";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Value("${jobs.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    @Autowired
+    private CircuitBreakers circuitBreakers;
+
+    @Value("${jobs.cache.stale-ttl-seconds:86400}")
+    private long staleTtlSeconds;
+
+    @Value("${jobs.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    @Value("${jobs.cache.negative-ttl-seconds:10}")
+    private long negativeTtlSeconds;
+
+    @Value("${lookups.batch.window-millis:2}")
+    private long batchWindowMillis;
+
+    @Value("${lookups.batch.max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${lookups.batch.max-concurrent-loads:16}")
+    private int batchMaxConcurrentLoads;
+
+    @Value("${lookups.timeout-millis:5000}")
+    private long lookupTimeoutMillis;
+
+    private NearCache<String, Boolean> cache;
+    // IDs seen to exist, kept long after the cache entry expires, for answering while the
+    // service is unavailable
+    private NearCache<String, Boolean> lastKnown;
+    private RequestCoalescer<String> coalescer;
+    private CircuitBreaker breaker;
+
+    @PostConstruct
+    void init() {
+        cache = new NearCache<>("jobs", cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+        lastKnown = new NearCache<>("jobs-last-known", cacheMaxSize, Duration.ofSeconds(staleTtlSeconds));
+        breaker = circuitBreakers.get("JobService");
+        coalescer = new RequestCoalescer<>("jobs", this::fetchExisting, Duration.ofMillis(batchWindowMillis), batchMaxSize,
+                batchMaxConcurrentLoads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coalescer.shutdown();
+    }
+
+    public boolean jobExists(String jobId) {
+        Boolean cached = cache.get(jobId);
+        if (cached != null) {
+            return cached;
+        }
+        if (!breaker.isCallPermitted()) {
+            return lastKnownOrFail(jobId, null);
+        }
+
+        try {
+            System.out.println("DEBUG: Checking job existence for ID: " + jobId);
+            return coalescer.submit(jobId).get(lookupTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.err.println("Error checking job existence: " + e.getMessage());
+            return lastKnownOrFail(jobId, e);
+        }
+    }
+
+    // Resolves many IDs at once: cached IDs locally, the rest in batched remote calls
+    public Set<String> findExisting(Collection<String> jobIds) {
+        Set<String> existing = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        for (String jobId : new LinkedHashSet<>(jobIds)) {
+            Boolean cached = cache.get(jobId);
+            if (cached == null) {
+                misses.add(jobId);
+            } else if (cached) {
+                existing.add(jobId);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += batchMaxSize) {
+            List<String> chunk = misses.subList(from, Math.min(from + batchMaxSize, misses.size()));
+            existing.addAll(fetchExisting(new LinkedHashSet<>(chunk)));
+        }
+        return existing;
+    }
+
+    // Full job document; not cached since hirers can edit requirements at any time
+    public Optional<JobDetails> findJob(String jobId) {
+        try {
+            return Optional.ofNullable(breaker.call(() -> restTemplate.getForObject(JOB_SERVICE_URL + "/{id}", JobDetails.class, jobId)));
+        } catch (HttpClientErrorException.NotFound e) {
+            cache.put(jobId, Boolean.FALSE, Duration.ofSeconds(negativeTtlSeconds));
+            return Optional.empty();
+        }
+    }
+
+    public void invalidate(String jobId) {
+        cache.invalidate(jobId);
+        lastKnown.invalidate(jobId);
+    }
+
+    public NearCache.Stats cacheStats() {
+        return cache.stats();
+    }
+
+    public RequestCoalescer<String> coalescer() {
+        return coalescer;
+    }
+
+    // Only an ID seen to exist is assumed to still exist; anything else cannot be answered now
+    private boolean lastKnownOrFail(String jobId, Exception cause) {
+        if (lastKnown.get(jobId) != null) {
+            System.out.println("WARN: JobService unavailable; using last known answer for job " + jobId);
+            return true;
+        }
+        throw new DependencyUnavailableException("JobService is unavailable; cannot verify job " + jobId, cause);
+    }
+
+    private Set<String> fetchExisting(Set<String> jobIds) {
+        System.out.println("DEBUG: Calling Job Service URL: " + JOB_SERVICE_URL + "/exists for " + jobIds.size() + " IDs");
+        ExistsResponse response = breaker.call(() -> restTemplate.postForObject(JOB_SERVICE_URL + "/exists", jobIds, ExistsResponse.class));
+        Set<String> existing = response != null && response.getExisting() != null ? response.getExisting() : Set.of();
+        for (String jobId : jobIds) {
+            if (existing.contains(jobId)) {
+                cache.put(jobId, Boolean.TRUE);
+                lastKnown.put(jobId, Boolean.TRUE);
+            } else {
+                cache.put(jobId, Boolean.FALSE, Duration.ofSeconds(negativeTtlSeconds));
+                lastKnown.invalidate(jobId);
+            }
+        }
+        return existing;
+    }
+}
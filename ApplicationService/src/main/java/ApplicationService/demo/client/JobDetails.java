@@ -0,0 +1,26 @@
+package ApplicationService.demo.client;
+
+import java.util.List;
+
+// The parts of a JobService job that applications are matched against
+public class JobDetails {
+    private String id;
+    private String jobTitle;
+    private List<String> requiredSkills;
+    private int[] requiredSkillIds;
+    private String experience;
+    private String prerequisites;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getJobTitle() { return jobTitle; }
+    public void setJobTitle(String jobTitle) { this.jobTitle = jobTitle; }
+    public List<String> getRequiredSkills() { return requiredSkills; }
+    public void setRequiredSkills(List<String> requiredSkills) { this.requiredSkills = requiredSkills; }
+    public int[] getRequiredSkillIds() { return requiredSkillIds; }
+    public void setRequiredSkillIds(int[] requiredSkillIds) { this.requiredSkillIds = requiredSkillIds; }
+    public String getExperience() { return experience; }
+    public void setExperience(String experience) { this.experience = experience; }
+    public String getPrerequisites() { return prerequisites; }
+    public void setPrerequisites(String prerequisites) { this.prerequisites = prerequisites; }
+}
@@ -0,0 +1,140 @@
+package ApplicationService.demo.client;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Collects single-key existence lookups that arrive within a short window and
+// answers them with one batched call. Concurrent lookups for the same key share a future.
+// The scheduler only runs the window timers; the blocking batch calls run on a separate,
+// bounded loader pool so a slow dependency cannot delay the next window's flush.
+public class RequestCoalescer<K> {
+
+    static final int DEFAULT_MAX_CONCURRENT_LOADS = 16;
+
+    private final Function<Set<K>, Set<K>> batchLoader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor loaders;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Map<K, CompletableFuture<Boolean>> pending = new HashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public RequestCoalescer(String name, Function<Set<K>, Set<K>> batchLoader, Duration window, int maxBatchSize) {
+        this(name, batchLoader, window, maxBatchSize, DEFAULT_MAX_CONCURRENT_LOADS);
+    }
+
+    public RequestCoalescer(String name, Function<Set<K>, Set<K>> batchLoader, Duration window, int maxBatchSize,
+                            int maxConcurrentLoads) {
+        this.batchLoader = batchLoader;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon(name + "-coalescer"));
+        // Batches beyond the running loads wait in a short queue; past that they fail fast
+        // rather than piling up behind a dependency that is already slow
+        this.loaders = new ThreadPoolExecutor(maxConcurrentLoads, maxConcurrentLoads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentLoads * 4), daemon(name + "-batch-loader"));
+        this.loaders.allowCoreThreadTimeOut(true);
+    }
+
+    public CompletableFuture<Boolean> submit(K key) {
+        requests.incrementAndGet();
+        lock.lock();
+        try {
+            CompletableFuture<Boolean> existing = pending.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            pending.put(key, future);
+
+            if (pending.size() >= maxBatchSize) {
+                Map<K, CompletableFuture<Boolean>> batch = takePending();
+                dispatch(batch);
+            } else if (pending.size() == 1) {
+                // First key of a new window schedules the flush for everything that joins it
+                scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+            return future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        loaders.shutdown();
+    }
+
+    private void flush() {
+        Map<K, CompletableFuture<Boolean>> batch;
+        lock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<K, CompletableFuture<Boolean>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            loaders.execute(() -> load(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Map<K, CompletableFuture<Boolean>> takePending() {
+        Map<K, CompletableFuture<Boolean>> batch = pending;
+        pending = new HashMap<>();
+        return batch;
+    }
+
+    private void load(Map<K, CompletableFuture<Boolean>> batch) {
+        batches.incrementAndGet();
+        try {
+            Set<K> found = batchLoader.apply(new LinkedHashSet<>(batch.keySet()));
+            batch.forEach((key, future) -> future.complete(found.contains(key)));
+        } catch (Exception e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
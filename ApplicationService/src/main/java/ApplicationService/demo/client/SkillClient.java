@@ -0,0 +1,139 @@
+package ApplicationService.demo.client;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Local copy of JobService's skill dictionary. The vocabulary is small and changes rarely, so
+// all of it is held here and refreshed periodically (picking up new synonyms); spellings not
+// seen yet are interned through JobService, behind its circuit breaker, in one call per write.
+// Single applies never wait for that call: new spellings are interned in the background and
+// SkillIdBackfill stores the IDs afterwards.
+@Component
+public class SkillClient {
+
+    private static final String SKILLS_URL = "http://JobService/internal/skills";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CircuitBreakers circuitBreakers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // One background intern at a time; when the queue is full the spellings are left to SkillIdBackfill
+    private final ThreadPoolExecutor internExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), runnable -> {
+                Thread thread = new Thread(runnable, "skill-intern");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+    private CircuitBreaker breaker;
+    private volatile SkillVocabulary vocabulary = SkillVocabulary.EMPTY;
+    private volatile boolean loaded;
+
+    @PostConstruct
+    void init() {
+        breaker = circuitBreakers.get("JobService");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        internExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread thread = new Thread(this::refresh, "skill-dictionary");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(initialDelayString = "${skills.refresh-interval-ms:60000}", fixedDelayString = "${skills.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            SkillEntry[] entries = restTemplate.getForObject(SKILLS_URL + "/entries", SkillEntry[].class);
+            lock.lock();
+            try {
+                vocabulary = new SkillVocabulary(entries != null ? Arrays.asList(entries) : List.of());
+                loaded = true;
+            } finally {
+                lock.unlock();
+            }
+            System.out.println("DEBUG: Loaded " + vocabulary.size() + " skill dictionary entries");
+        } catch (Exception e) {
+            System.err.println("ERROR loading skill dictionary: " + e.getMessage());
+        }
+    }
+
+    // False until the first load; callers fall back to matching the skill strings
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public SkillVocabulary vocabulary() {
+        return vocabulary;
+    }
+
+    // Makes sure every spelling has an ID; false if JobService could not be reached
+    public boolean intern(Collection<String> skills) {
+        Set<String> missing = missing(skills);
+        if (missing.isEmpty()) {
+            return true;
+        }
+
+        try {
+            SkillEntry[] created = breaker.call(() -> restTemplate.postForObject(SKILLS_URL + "/intern", missing, SkillEntry[].class));
+            lock.lock();
+            try {
+                vocabulary = vocabulary.with(created != null ? Arrays.asList(created) : List.of());
+            } finally {
+                lock.unlock();
+            }
+            return true;
+        } catch (Exception e) {
+            System.err.println("ERROR interning skills " + missing + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    // One ID per skill, in the same positions, if every spelling is already known. Otherwise null,
+    // and the new spellings are interned in the background without holding up the caller.
+    public int[] internAll(List<String> skills) {
+        Set<String> missing = missing(skills);
+        if (!missing.isEmpty()) {
+            internExecutor.execute(() -> intern(missing));
+            return null;
+        }
+        return vocabulary.idsOf(skills);
+    }
+
+    private Set<String> missing(Collection<String> skills) {
+        SkillVocabulary current = vocabulary;
+        Set<String> missing = new LinkedHashSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String normalized = SkillVocabulary.normalize(skill);
+                if (!normalized.isEmpty() && current.idOf(normalized) == 0) {
+                    missing.add(normalized);
+                }
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,24 @@
+package ApplicationService.demo.client;
+
+// One spelling in JobService's skill dictionary; synonyms point at their skill through canonicalId
+public class SkillEntry {
+    private int id;
+    private String name;
+    private int canonicalId;
+
+    public SkillEntry() {
+    }
+
+    public SkillEntry(int id, String name, int canonicalId) {
+        this.id = id;
+        this.name = name;
+        this.canonicalId = canonicalId;
+    }
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public int getCanonicalId() { return canonicalId; }
+    public void setCanonicalId(int canonicalId) { this.canonicalId = canonicalId; }
+}
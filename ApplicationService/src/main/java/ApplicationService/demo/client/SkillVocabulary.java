@@ -0,0 +1,113 @@
+package ApplicationService.demo.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Immutable copy of the skill dictionary: spelling -> ID, ID -> canonical ID and the IDs
+// grouped under each canonical skill. Normalization must match JobService's SkillDictionary.
+public final class SkillVocabulary {
+
+    public static final SkillVocabulary EMPTY = new SkillVocabulary(List.of());
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final List<SkillEntry> entries;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final int[] canonical;
+    private final Map<Integer, int[]> groups = new HashMap<>();
+
+    public SkillVocabulary(Collection<SkillEntry> entries) {
+        this.entries = List.copyOf(entries);
+        int maxId = 0;
+        for (SkillEntry entry : entries) {
+            maxId = Math.max(maxId, entry.getId());
+        }
+        canonical = new int[maxId + 1];
+        for (SkillEntry entry : entries) {
+            ids.put(entry.getName(), entry.getId());
+            canonical[entry.getId()] = entry.getCanonicalId();
+        }
+        Map<Integer, List<Integer>> members = new HashMap<>();
+        for (SkillEntry entry : entries) {
+            // A link to an entry not loaded here leaves the spelling on its own
+            int target = entry.getCanonicalId();
+            if (target <= 0 || target > maxId || canonical[target] != target) {
+                canonical[entry.getId()] = target = entry.getId();
+            }
+            members.computeIfAbsent(target, key -> new ArrayList<>()).add(entry.getId());
+        }
+        members.forEach((id, list) -> {
+            int[] group = list.stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(group);
+            groups.put(id, group);
+        });
+    }
+
+    // Trimmed, lower-cased, inner whitespace collapsed; "" for null
+    public static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(skill.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    public SkillVocabulary with(Collection<SkillEntry> added) {
+        Map<Integer, SkillEntry> merged = new HashMap<>();
+        entries.forEach(entry -> merged.put(entry.getId(), entry));
+        added.forEach(entry -> merged.put(entry.getId(), entry));
+        return new SkillVocabulary(merged.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 0 for blank or unknown spellings
+    public int idOf(String skill) {
+        return ids.getOrDefault(normalize(skill), 0);
+    }
+
+    // Unknown IDs resolve to themselves
+    public int canonical(int id) {
+        return id > 0 && id < canonical.length && canonical[id] > 0 ? canonical[id] : id;
+    }
+
+    // One ID per skill, in the same positions; null if any non-blank skill is unknown
+    public int[] idsOf(List<String> skills) {
+        if (skills == null) {
+            return null;
+        }
+        int[] result = new int[skills.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = idOf(skills.get(i));
+            if (result[i] == 0 && !normalize(skills.get(i)).isEmpty()) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    // IDs of every skill with a spelling or synonym containing the query
+    public int[] matching(String query) {
+        String normalized = normalize(query);
+        BitSet result = new BitSet();
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        ids.forEach((name, id) -> {
+            if (name.contains(normalized)) {
+                for (int member : groups.get(canonical(id))) {
+                    result.set(member);
+                }
+            }
+        });
+        return result.stream().toArray();
+    }
+}
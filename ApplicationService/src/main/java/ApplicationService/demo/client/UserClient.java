@@ -0,0 +1,143 @@
+package ApplicationService.demo.client;
+
+import ApplicationService.demo.cache.NearCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class UserClient {
+
+    private static final String USER_SERVICE_URL = "http://UserService/api/users";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Value("${users.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    @Autowired
+    private CircuitBreakers circuitBreakers;
+
+    @Value("${users.cache.stale-ttl-seconds:86400}")
+    private long staleTtlSeconds;
+
+    @Value("${users.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    @Value("${lookups.batch.window-millis:2}")
+    private long batchWindowMillis;
+
+    @Value("${lookups.batch.max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${lookups.batch.max-concurrent-loads:16}")
+    private int batchMaxConcurrentLoads;
+
+    @Value("${lookups.timeout-millis:5000}")
+    private long lookupTimeoutMillis;
+
+    private NearCache<String, Boolean> cache;
+    // IDs seen to exist, kept long after the cache entry expires, for answering while the
+    // service is unavailable
+    private NearCache<String, Boolean> lastKnown;
+    private RequestCoalescer<String> coalescer;
+    private CircuitBreaker breaker;
+
+    @PostConstruct
+    void init() {
+        cache = new NearCache<>("users", cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+        lastKnown = new NearCache<>("users-last-known", cacheMaxSize, Duration.ofSeconds(staleTtlSeconds));
+        breaker = circuitBreakers.get("UserService");
+        coalescer = new RequestCoalescer<>("users", this::fetchExisting, Duration.ofMillis(batchWindowMillis), batchMaxSize,
+                batchMaxConcurrentLoads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coalescer.shutdown();
+    }
+
+    public boolean userExists(String userId) {
+        if (cache.get(userId) != null) {
+            return true;
+        }
+        if (!breaker.isCallPermitted()) {
+            return lastKnownOrFail(userId, null);
+        }
+
+        try {
+            System.out.println("DEBUG: Checking user existence for ID: " + userId);
+            boolean exists = coalescer.submit(userId).get(lookupTimeoutMillis, TimeUnit.MILLISECONDS);
+            System.out.println("DEBUG: User validation " + (exists ? "successful" : "failed") + " for ID: " + userId);
+            return exists;
+        } catch (Exception e) {
+            System.err.println("ERROR checking user existence for ID " + userId + ": " + e.getMessage());
+            return lastKnownOrFail(userId, e);
+        }
+    }
+
+    // Resolves many IDs at once: cached IDs locally, the rest in batched remote calls
+    public Set<String> findExisting(Collection<String> userIds) {
+        Set<String> existing = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        for (String userId : new LinkedHashSet<>(userIds)) {
+            if (cache.get(userId) != null) {
+                existing.add(userId);
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += batchMaxSize) {
+            List<String> chunk = misses.subList(from, Math.min(from + batchMaxSize, misses.size()));
+            existing.addAll(fetchExisting(new LinkedHashSet<>(chunk)));
+        }
+        return existing;
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+        lastKnown.invalidate(userId);
+    }
+
+    public NearCache.Stats cacheStats() {
+        return cache.stats();
+    }
+
+    public RequestCoalescer<String> coalescer() {
+        return coalescer;
+    }
+
+    // Only an ID seen to exist is assumed to still exist; anything else cannot be answered now
+    private boolean lastKnownOrFail(String userId, Exception cause) {
+        if (lastKnown.get(userId) != null) {
+            System.out.println("WARN: UserService unavailable; using last known answer for user " + userId);
+            return true;
+        }
+        throw new DependencyUnavailableException("UserService is unavailable; cannot verify user " + userId, cause);
+    }
+
+    private Set<String> fetchExisting(Set<String> userIds) {
+        System.out.println("DEBUG: Calling User Service URL: " + USER_SERVICE_URL + "/exists for " + userIds.size() + " IDs");
+        ExistsResponse response = breaker.call(() -> restTemplate.postForObject(USER_SERVICE_URL + "/exists", userIds, ExistsResponse.class));
+        Set<String> existing = response != null && response.getExisting() != null ? response.getExisting() : Set.of();
+        existing.forEach(userId -> {
+            cache.put(userId, Boolean.TRUE);
+            lastKnown.put(userId, Boolean.TRUE);
+        });
+        return existing;
+    }
+}
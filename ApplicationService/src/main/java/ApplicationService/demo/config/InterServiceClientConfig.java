@@ -0,0 +1,78 @@
+package ApplicationService.demo.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+// Keep-alive connection pool behind the load-balanced RestTemplate. A pool route is one service
+// instance, so the per-route cap bounds how many threads a single slow instance can hold, and
+// every call is bounded three ways: waiting for a pooled connection, connecting, and waiting
+// between response packets (so streamed responses are not cut off by a total deadline).
+@Configuration
+public class InterServiceClientConfig {
+
+    @Value("${http-client.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${http-client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${http-client.connect-timeout-ms:1000}")
+    private long connectTimeoutMillis;
+
+    @Value("${http-client.response-timeout-ms:5000}")
+    private long responseTimeoutMillis;
+
+    @Value("${http-client.pool-acquire-timeout-ms:1000}")
+    private long poolAcquireTimeoutMillis;
+
+    @Value("${http-client.idle-timeout-ms:30000}")
+    private long idleTimeoutMillis;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager interServiceConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.LAX)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient interServiceHttpClient(PoolingHttpClientConnectionManager interServiceConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(interServiceConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .build())
+                // A retry would double the wait on an instance that is already slow
+                .disableAutomaticRetries()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory interServiceRequestFactory(CloseableHttpClient interServiceHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(interServiceHttpClient);
+    }
+}
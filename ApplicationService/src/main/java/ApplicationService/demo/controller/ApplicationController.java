@@ -1,31 +1,60 @@
 package ApplicationService.demo.controller;
 
+import ApplicationService.demo.client.DependencyUnavailableException;
 import ApplicationService.demo.model.JobApplication;
+import ApplicationService.demo.service.ApplicationQueryEngine;
 import ApplicationService.demo.service.ApplicationService;
+import ApplicationService.demo.service.ValidationTimeoutException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/applications")
 public class ApplicationController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int NDJSON_FLUSH_INTERVAL = 100;
+
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private RestTemplate restTemplate;
 
+    @Value("${applications.stream.timeout-millis:600000}")
+    private long streamTimeoutMillis;
+
     @GetMapping
-    public ResponseEntity<List<JobApplication>> getAllApplications(
+    public ResponseEntity<?> getAllApplications(
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getAllApplications(sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getAllApplications(sortBy, sortDirection);
@@ -33,17 +62,49 @@ public class ApplicationController {
                 applications = applicationService.getAllApplications();
             }
             return ResponseEntity.ok(applications);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllApplications(
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDirection,
+            NativeWebRequest request) {
+        Sort sort;
+        try {
+            sort = applicationService.streamSort(sortBy, sortDirection);
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = createErrorResponse("Validation Error", e.getMessage());
+            return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+
+        // Exports outlive the default async timeout; only this request gets the longer one
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(streamTimeoutMillis);
+        StreamingResponseBody body = out -> {
+            try (Stream<JobApplication> applications = applicationService.streamAllApplications(sort)) {
+                writeNdjson(applications, out);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+    }
+
     @GetMapping("/job/{jobId}")
     public ResponseEntity<?> getApplicationsByJob(
             @PathVariable String jobId,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsByJob(jobId, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsByJob(jobId, sortBy, sortDirection);
@@ -53,6 +114,8 @@ public class ApplicationController {
             return ResponseEntity.ok(applications);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Service Unavailable", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -64,8 +127,14 @@ public class ApplicationController {
     public ResponseEntity<?> getApplicationsByJobSeeker(
             @PathVariable String jobSeekerId,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsByJobSeeker(jobSeekerId, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsByJobSeeker(jobSeekerId, sortBy, sortDirection);
@@ -75,6 +144,8 @@ public class ApplicationController {
             return ResponseEntity.ok(applications);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Service Unavailable", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -87,8 +158,14 @@ public class ApplicationController {
             @PathVariable String jobId,
             @PathVariable String status,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsByJobAndStatus(jobId, status, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsByJobAndStatus(jobId, status, sortBy, sortDirection);
@@ -98,6 +175,8 @@ public class ApplicationController {
             return ResponseEntity.ok(applications);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Service Unavailable", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -110,8 +189,14 @@ public class ApplicationController {
             @PathVariable String jobSeekerId,
             @PathVariable String status,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsByJobSeekerAndStatus(jobSeekerId, status, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsByJobSeekerAndStatus(jobSeekerId, status, sortBy, sortDirection);
@@ -121,6 +206,8 @@ public class ApplicationController {
             return ResponseEntity.ok(applications);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Service Unavailable", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -132,8 +219,14 @@ public class ApplicationController {
     public ResponseEntity<?> getApplicationsBySkill(
             @PathVariable String skill,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsBySkill(skill, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsBySkill(skill, sortBy, sortDirection);
@@ -152,8 +245,14 @@ public class ApplicationController {
     public ResponseEntity<?> getApplicationsByExperience(
             @PathVariable String experience,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsByExperience(experience, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsByExperience(experience, sortBy, sortDirection);
@@ -172,8 +271,14 @@ public class ApplicationController {
     public ResponseEntity<?> getApplicationsByDegree(
             @PathVariable String degree,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsByDegree(degree, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsByDegree(degree, sortBy, sortDirection);
@@ -192,8 +297,14 @@ public class ApplicationController {
     public ResponseEntity<?> getApplicationsByStatus(
             @PathVariable String status,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(applicationService.getApplicationsByStatus(status, sortBy, sortDirection, cursor, size));
+            }
+
             List<JobApplication> applications;
             if (sortBy != null || sortDirection != null) {
                 applications = applicationService.getApplicationsByStatus(status, sortBy, sortDirection);
@@ -215,11 +326,23 @@ public class ApplicationController {
             @RequestParam(required = false) String degree,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortDirection) {
+            @RequestParam(required = false) String sortDirection,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean explain) {
         try {
-            List<JobApplication> applications = applicationService.searchApplications(
-                    skill, experience, degree, status, sortBy, sortDirection);
-            return ResponseEntity.ok(applications);
+            ApplicationQueryEngine.SearchResult result = applicationService.searchApplications(
+                    skill, experience, degree, status, sortBy, sortDirection, limit, explain);
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .header("X-Result-Limit", String.valueOf(result.getLimit()))
+                    .header("X-Docs-Returned", String.valueOf(result.getReturned()));
+            if (result.getDocsExamined() != null) {
+                response.header("X-Docs-Examined", String.valueOf(result.getDocsExamined()));
+            }
+            if (result.getKeysExamined() != null) {
+                response.header("X-Keys-Examined", String.valueOf(result.getKeysExamined()));
+            }
+            return response.body(result.getApplications());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
         } catch (Exception e) {
@@ -234,6 +357,10 @@ public class ApplicationController {
             return ResponseEntity.status(HttpStatus.CREATED).body(createdApplication);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
+        } catch (ValidationTimeoutException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Validation Timeout", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Service Unavailable", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(createErrorResponse("Application Error", e.getMessage()));
         } catch (Exception e) {
@@ -242,6 +369,19 @@ public class ApplicationController {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createApplicationsBulk(@RequestBody List<JobApplication> applications) {
+        try {
+            ApplicationService.BulkResult result = applicationService.createApplicationsBulk(applications);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(createErrorResponse("Bulk Application Error", "Failed to process bulk applications: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getApplicationById(@PathVariable String id) {
         try {
@@ -309,11 +449,33 @@ public class ApplicationController {
         }
     }
 
+    @GetMapping("/job/{jobId}/shortlist")
+    public ResponseEntity<?> getShortlistForJob(
+            @PathVariable String jobId,
+            @RequestParam(required = false) Integer k,
+            @RequestParam(required = false) String status) {
+        try {
+            return ResponseEntity.ok(applicationService.getShortlistForJob(jobId, k, status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Service Unavailable", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(createErrorResponse("Not Found", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/can-apply")
     public ResponseEntity<?> canUserApply(@RequestParam String jobSeekerId, @RequestParam String jobId) {
         try {
             boolean canApply = applicationService.canUserApply(jobSeekerId, jobId);
             return ResponseEntity.ok(new CanApplyResponse(canApply));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Service Unavailable", e.getMessage()));
+        } catch (ValidationTimeoutException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(createErrorResponse("Validation Timeout", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -359,6 +521,19 @@ public class ApplicationController {
         }
     }
 
+    // One JSON document per line, flushed in small batches as the cursor advances
+    private void writeNdjson(Stream<JobApplication> applications, OutputStream out) throws IOException {
+        int written = 0;
+        for (Iterator<JobApplication> it = applications.iterator(); it.hasNext(); ) {
+            out.write(objectMapper.writeValueAsBytes(it.next()));
+            out.write('\n');
+            if (++written % NDJSON_FLUSH_INTERVAL == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+
     private ErrorResponse createErrorResponse(String error, String message) {
         return new ErrorResponse(error, message);
     }
@@ -0,0 +1,53 @@
+package ApplicationService.demo.controller;
+
+import ApplicationService.demo.cache.NearCache;
+import ApplicationService.demo.client.JobClient;
+import ApplicationService.demo.client.UserClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/cache")
+public class CacheController {
+
+    @Autowired
+    private UserClient userClient;
+
+    @Autowired
+    private JobClient jobClient;
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<NearCache.Stats>> getCacheStats() {
+        return ResponseEntity.ok(List.of(userClient.cacheStats(), jobClient.cacheStats()));
+    }
+
+    @GetMapping("/coalescing")
+    public ResponseEntity<Map<String, Map<String, Long>>> getCoalescingStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        stats.put("users", Map.of(
+                "requests", userClient.coalescer().getRequestCount(),
+                "batches", userClient.coalescer().getBatchCount()));
+        stats.put("jobs", Map.of(
+                "requests", jobClient.coalescer().getRequestCount(),
+                "batches", jobClient.coalescer().getBatchCount()));
+        return ResponseEntity.ok(stats);
+    }
+
+    @DeleteMapping("/users/{userId}")
+    public ResponseEntity<Void> invalidateUser(@PathVariable String userId) {
+        userClient.invalidate(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<Void> invalidateJob(@PathVariable String jobId) {
+        jobClient.invalidate(jobId);
+        return ResponseEntity.noContent().build();
+    }
+}
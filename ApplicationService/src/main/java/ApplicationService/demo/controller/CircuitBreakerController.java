@@ -0,0 +1,25 @@
+package ApplicationService.demo.controller;
+
+import ApplicationService.demo.client.CircuitBreaker;
+import ApplicationService.demo.client.CircuitBreakers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/breakers")
+public class CircuitBreakerController {
+
+    @Autowired
+    private CircuitBreakers circuitBreakers;
+
+    @GetMapping
+    public ResponseEntity<List<CircuitBreaker.Stats>> getBreakers() {
+        return ResponseEntity.ok(circuitBreakers.stats());
+    }
+}
@@ -0,0 +1,29 @@
+package ApplicationService.demo.controller;
+
+import ApplicationService.demo.repository.IndexManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/indexes")
+public class IndexController {
+
+    @Autowired
+    private IndexManager indexManager;
+
+    @GetMapping
+    public ResponseEntity<IndexManager.Report> getIndexReport() {
+        IndexManager.Report report = indexManager.getLastReport();
+        if (report == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<IndexManager.Report> reconcileIndexes() {
+        return ResponseEntity.ok(indexManager.reconcile());
+    }
+}
@@ -0,0 +1,53 @@
+package ApplicationService.demo.controller;
+
+import ApplicationService.demo.service.ApplicationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/seekers")
+public class SeekerController {
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int NDJSON_FLUSH_INTERVAL = 100;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${applications.stream.timeout-millis:600000}")
+    private long streamTimeoutMillis;
+
+    // One {"jobSeekerId", "skills"} line per seeker, used to build job recommendations
+    @GetMapping(value = "/skills", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSeekerSkills(NativeWebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(streamTimeoutMillis);
+        StreamingResponseBody body = out -> {
+            try (Stream<ApplicationService.SeekerSkills> seekers = applicationService.streamSeekerSkills()) {
+                int written = 0;
+                for (Iterator<ApplicationService.SeekerSkills> it = seekers.iterator(); it.hasNext(); ) {
+                    out.write(objectMapper.writeValueAsBytes(it.next()));
+                    out.write('\n');
+                    if (++written % NDJSON_FLUSH_INTERVAL == 0) {
+                        out.flush();
+                    }
+                }
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+    }
+}
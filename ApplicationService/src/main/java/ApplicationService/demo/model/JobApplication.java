@@ -1,11 +1,25 @@
 package ApplicationService.demo.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(collection = "applications")
+// Listing indexes end in (applicationDate, _id) to match the default sort and the keyset tie-breaker.
+// uniq_pending_application allows at most one PENDING application per seeker and job.
+// skill_ids serves skill search, including the lookup of documents still missing skillIds.
+@CompoundIndexes({
+        @CompoundIndex(name = "uniq_pending_application", def = "{'jobSeekerId': 1, 'jobId': 1, 'status': 1}",
+                unique = true, partialFilter = "{'status': 'PENDING'}"),
+        @CompoundIndex(name = "job_status_date", def = "{'jobId': 1, 'status': 1, 'applicationDate': -1, '_id': 1}"),
+        @CompoundIndex(name = "seeker_status_date", def = "{'jobSeekerId': 1, 'status': 1, 'applicationDate': -1, '_id': 1}"),
+        @CompoundIndex(name = "status_date", def = "{'status': 1, 'applicationDate': -1, '_id': 1}"),
+        @CompoundIndex(name = "application_date", def = "{'applicationDate': -1, '_id': 1}"),
+        @CompoundIndex(name = "skill_ids", def = "{'skillIds': 1}")
+})
 public class JobApplication {
 
     @Id
@@ -17,6 +31,8 @@ public class JobApplication {
     private String email;
     private String cvFileUrl;
     private List<String> skills;
+    // Skill dictionary IDs of skills, in the same order; maintained by ApplicationService
+    private int[] skillIds;
     private String experience;
     private String degree;
     private String status; 
@@ -107,6 +123,14 @@ public class JobApplication {
         this.skills = skills;
     }
 
+    public int[] getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(int[] skillIds) {
+        this.skillIds = skillIds;
+    }
+
     public String getExperience() {
         return experience;
     }
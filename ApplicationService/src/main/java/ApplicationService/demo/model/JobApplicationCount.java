@@ -0,0 +1,57 @@
+package ApplicationService.demo.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+// Pre-aggregated application counts for one job, keyed by jobId
+@Document(collection = "application_counts")
+public class JobApplicationCount {
+
+    @Id
+    private String jobId;
+    private long total;
+    private Map<String, Long> byStatus = new HashMap<>();
+    private LocalDateTime updatedAt;
+
+    public JobApplicationCount() {
+    }
+
+    public JobApplicationCount(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,35 +1,61 @@
 package ApplicationService.demo.repository;
 
 import ApplicationService.demo.model.JobApplication;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ApplicationRepository extends MongoRepository<JobApplication, String> {
 
     List<JobApplication> findByJobId(String jobId);
     List<JobApplication> findByJobId(String jobId, Sort sort);
+    Window<JobApplication> findByJobId(String jobId, ScrollPosition position, Limit limit, Sort sort);
 
     List<JobApplication> findByJobSeekerId(String jobSeekerId);
     List<JobApplication> findByJobSeekerId(String jobSeekerId, Sort sort);
+    Window<JobApplication> findByJobSeekerId(String jobSeekerId, ScrollPosition position, Limit limit, Sort sort);
 
     List<JobApplication> findByJobIdAndStatus(String jobId, String status);
     List<JobApplication> findByJobIdAndStatus(String jobId, String status, Sort sort);
+    Window<JobApplication> findByJobIdAndStatus(String jobId, String status, ScrollPosition position, Limit limit, Sort sort);
 
     List<JobApplication> findByJobSeekerIdAndStatus(String jobSeekerId, String status);
     List<JobApplication> findByJobSeekerIdAndStatus(String jobSeekerId, String status, Sort sort);
+    Window<JobApplication> findByJobSeekerIdAndStatus(String jobSeekerId, String status, ScrollPosition position, Limit limit, Sort sort);
+
+    // Served by the unique pending-application index; stops at the first match
+    boolean existsByJobSeekerIdAndJobIdAndStatus(String jobSeekerId, String jobId, String status);
 
     List<JobApplication> findBySkillsContainingIgnoreCase(String skill);
     List<JobApplication> findBySkillsContainingIgnoreCase(String skill, Sort sort);
+    Window<JobApplication> findBySkillsContainingIgnoreCase(String skill, ScrollPosition position, Limit limit, Sort sort);
 
     List<JobApplication> findByExperienceContainingIgnoreCase(String experience);
     List<JobApplication> findByExperienceContainingIgnoreCase(String experience, Sort sort);
+    Window<JobApplication> findByExperienceContainingIgnoreCase(String experience, ScrollPosition position, Limit limit, Sort sort);
 
     List<JobApplication> findByDegreeContainingIgnoreCase(String degree);
     List<JobApplication> findByDegreeContainingIgnoreCase(String degree, Sort sort);
+    Window<JobApplication> findByDegreeContainingIgnoreCase(String degree, ScrollPosition position, Limit limit, Sort sort);
 
     List<JobApplication> findByStatus(String status);
     List<JobApplication> findByStatus(String status, Sort sort);
+    Window<JobApplication> findByStatus(String status, ScrollPosition position, Limit limit, Sort sort);
 
     List<JobApplication> findAll(Sort sort);
-}
\ No newline at end of file
+    Window<JobApplication> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    Stream<JobApplication> streamAllBy(Sort sort);
+
+    List<ApplicationKey> findByJobSeekerIdInAndStatus(Collection<String> jobSeekerIds, String status);
+
+    interface ApplicationKey {
+        String getJobSeekerId();
+        String getJobId();
+    }
+}
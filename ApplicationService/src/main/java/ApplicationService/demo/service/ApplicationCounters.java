@@ -0,0 +1,198 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.model.JobApplication;
+import ApplicationService.demo.model.JobApplicationCount;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Per-job application totals broken down by status, kept in application_counts.
+// Writes apply $inc updates next to the application write; a missing counter is seeded from
+// a real count instead. They are not transactional, so a periodic reconciliation recomputes
+// the counters from the applications collection.
+@Component
+public class ApplicationCounters {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    public long getTotal(String jobId) {
+        JobApplicationCount counts = mongoTemplate.findById(jobId, JobApplicationCount.class);
+        if (counts == null) {
+            // No counter yet (no applications, or not reconciled since deploy): an index count is cheap
+            return mongoTemplate.count(new Query(Criteria.where("jobId").is(jobId)), JobApplication.class);
+        }
+        return Math.max(counts.getTotal(), 0);
+    }
+
+    public long getCount(String jobId, String status) {
+        JobApplicationCount counts = mongoTemplate.findById(jobId, JobApplicationCount.class);
+        if (counts == null) {
+            return mongoTemplate.count(new Query(Criteria.where("jobId").is(jobId).and("status").is(status)), JobApplication.class);
+        }
+        return Math.max(counts.getByStatus().getOrDefault(status, 0L), 0);
+    }
+
+    public void applicationCreated(JobApplication application) {
+        increment(application.getJobId(), application.getStatus(), 1);
+    }
+
+    public void applicationsCreated(Collection<JobApplication> applications) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Long>> deltas = new HashMap<>();
+        for (JobApplication application : applications) {
+            deltas.computeIfAbsent(application.getJobId(), jobId -> new HashMap<>())
+                    .merge(application.getStatus(), 1L, Long::sum);
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplicationCount.class);
+        deltas.forEach((jobId, byStatus) -> {
+            Update update = new Update().set("updatedAt", LocalDateTime.now());
+            long total = 0;
+            for (Map.Entry<String, Long> entry : byStatus.entrySet()) {
+                update.inc("byStatus." + entry.getKey(), entry.getValue());
+                total += entry.getValue();
+            }
+            bulk.updateOne(byJob(jobId), update.inc("total", total));
+        });
+        try {
+            bulk.execute();
+            Query existing = new Query(Criteria.where("_id").in(deltas.keySet()));
+            existing.fields().include("_id");
+            Set<String> missing = new HashSet<>(deltas.keySet());
+            mongoTemplate.find(existing, JobApplicationCount.class).forEach(counts -> missing.remove(counts.getJobId()));
+            missing.forEach(this::seed);
+        } catch (Exception e) {
+            System.err.println("ERROR updating application counters: " + e.getMessage());
+        }
+    }
+
+    public void statusChanged(String jobId, String oldStatus, String newStatus) {
+        if (oldStatus != null && oldStatus.equals(newStatus)) {
+            return;
+        }
+        Update update = new Update().set("updatedAt", LocalDateTime.now()).inc("byStatus." + newStatus, 1);
+        if (oldStatus != null) {
+            update.inc("byStatus." + oldStatus, -1);
+        }
+        apply(jobId, update);
+    }
+
+    public void applicationDeleted(JobApplication application) {
+        increment(application.getJobId(), application.getStatus(), -1);
+    }
+
+    // Rebuilds every counter from a group-by over the applications. Only counters last written
+    // before the run started are overwritten, so an $inc that lands mid-run is never lost; those
+    // counters are left to the next run.
+    @Scheduled(initialDelayString = "${applications.counters.reconcile-initial-delay-ms:30000}",
+            fixedDelayString = "${applications.counters.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            LocalDateTime runStartedAt = LocalDateTime.now();
+            Map<String, JobApplicationCount> counts = countApplications(Aggregation.newAggregation(
+                    Aggregation.group("jobId", "status").count().as("count")));
+
+            if (!counts.isEmpty()) {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplicationCount.class);
+                counts.values().forEach(jobCounts -> {
+                    bulk.updateOne(new Query(Criteria.where("_id").is(jobCounts.getJobId()).and("updatedAt").lt(runStartedAt)),
+                            new Update()
+                                    .set("total", jobCounts.getTotal())
+                                    .set("byStatus", jobCounts.getByStatus())
+                                    .set("updatedAt", LocalDateTime.now()));
+                    // Creates counters that do not exist yet; a no-op for every other one
+                    bulk.upsert(byJob(jobCounts.getJobId()), seedUpdate(jobCounts));
+                });
+                bulk.execute();
+            }
+
+            // Counters untouched since the run started belong to jobs that no longer have applications
+            long removed = mongoTemplate.remove(new Query(Criteria.where("updatedAt").lt(runStartedAt)),
+                    JobApplicationCount.class).getDeletedCount();
+
+            System.out.println("DEBUG: Reconciled application counters for " + counts.size() + " jobs, removed "
+                    + removed + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (Exception e) {
+            System.err.println("ERROR reconciling application counters: " + e.getMessage());
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    private Map<String, JobApplicationCount> countApplications(Aggregation aggregation) {
+        Map<String, JobApplicationCount> counts = new HashMap<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, JobApplication.class, Document.class)) {
+            Document key = row.get("_id", Document.class);
+            String jobId = key.getString("jobId");
+            long count = ((Number) row.get("count")).longValue();
+            JobApplicationCount jobCounts = counts.computeIfAbsent(jobId, JobApplicationCount::new);
+            jobCounts.getByStatus().put(key.getString("status"), count);
+            jobCounts.setTotal(jobCounts.getTotal() + count);
+        }
+        return counts;
+    }
+
+    // Creates a missing counter from the applications already written, which include the one
+    // that triggered it. If another writer seeds it first this is a no-op; reconciliation
+    // repairs any drift from that race.
+    private void seed(String jobId) {
+        JobApplicationCount counts = countApplications(Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("jobId").is(jobId)),
+                Aggregation.group("jobId", "status").count().as("count")))
+                .getOrDefault(jobId, new JobApplicationCount(jobId));
+        mongoTemplate.upsert(byJob(jobId), seedUpdate(counts), JobApplicationCount.class);
+    }
+
+    private Update seedUpdate(JobApplicationCount counts) {
+        return new Update()
+                .setOnInsert("total", counts.getTotal())
+                .setOnInsert("byStatus", counts.getByStatus())
+                .setOnInsert("updatedAt", LocalDateTime.now());
+    }
+
+    private void increment(String jobId, String status, long delta) {
+        apply(jobId, new Update()
+                .inc("total", delta)
+                .inc("byStatus." + status, delta)
+                .set("updatedAt", LocalDateTime.now()));
+    }
+
+    private void apply(String jobId, Update update) {
+        try {
+            if (mongoTemplate.updateFirst(byJob(jobId), update, JobApplicationCount.class).getMatchedCount() == 0) {
+                seed(jobId);
+            }
+        } catch (Exception e) {
+            // The application write already succeeded; reconciliation repairs the counter
+            System.err.println("ERROR updating application counters for job " + jobId + ": " + e.getMessage());
+        }
+    }
+
+    private Query byJob(String jobId) {
+        return new Query(Criteria.where("_id").is(jobId));
+    }
+}
@@ -0,0 +1,159 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.client.SkillClient;
+import ApplicationService.demo.model.JobApplication;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+public class ApplicationQueryEngine {
+
+    // compareToIgnoreCase-like ordering for string sort keys
+    private static final Collation CASE_INSENSITIVE = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private SkillClient skillClient;
+
+    @Value("${applications.search.max-results:1000}")
+    private int maxResults;
+
+    public SearchResult search(String skill, String experience, String degree, String status,
+                               Sort sort, Integer limit, boolean explain) {
+        Query query = buildQuery(skill, experience, degree, status);
+
+        if (sort != null && sort.isSorted()) {
+            // _id as tie-breaker keeps the order stable between identical sort keys
+            query.with(sort.and(Sort.by(Sort.Direction.ASC, "_id")));
+            if (sort.getOrderFor("applicationDate") == null) {
+                query.collation(CASE_INSENSITIVE);
+            }
+        }
+
+        int effectiveLimit = resolveLimit(limit);
+        query.limit(effectiveLimit);
+
+        List<JobApplication> applications = mongoTemplate.find(query, JobApplication.class);
+
+        SearchResult result = new SearchResult(applications, effectiveLimit);
+        if (explain) {
+            applyExecutionStats(query, effectiveLimit, result);
+        }
+        return result;
+    }
+
+    private Query buildQuery(String skill, String experience, String degree, String status) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        if (skill != null && !skill.trim().isEmpty()) {
+            criteria.add(skillCriteria(skill));
+        }
+
+        if (experience != null && !experience.trim().isEmpty()) {
+            criteria.add(Criteria.where("experience").regex(containsIgnoreCase(experience)));
+        }
+
+        if (degree != null && !degree.trim().isEmpty()) {
+            criteria.add(Criteria.where("degree").regex(containsIgnoreCase(degree)));
+        }
+
+        if (status != null && !status.trim().isEmpty()) {
+            // Statuses are persisted upper-cased, so an exact match can use an index
+            criteria.add(Criteria.where("status").is(status.trim().toUpperCase()));
+        }
+
+        Query query = new Query();
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+        }
+        return query;
+    }
+
+    // Applications listing any dictionary spelling that contains the skill, or a synonym of one.
+    // Applications saved before they carried skillIds keep the text match until backfilled.
+    private Criteria skillCriteria(String skill) {
+        if (!skillClient.isLoaded()) {
+            return Criteria.where("skills").regex(containsIgnoreCase(skill));
+        }
+        List<Integer> ids = Arrays.stream(skillClient.vocabulary().matching(skill)).boxed().toList();
+        return new Criteria().orOperator(
+                Criteria.where("skillIds").in(ids),
+                new Criteria().andOperator(
+                        Criteria.where("skillIds").exists(false),
+                        Criteria.where("skills").regex(containsIgnoreCase(skill))));
+    }
+
+    private Pattern containsIgnoreCase(String value) {
+        return Pattern.compile(Pattern.quote(value.trim()), Pattern.CASE_INSENSITIVE);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return maxResults;
+        }
+        return Math.min(limit, maxResults);
+    }
+
+    // Runs the same find through explain to report how much work Mongo did for it
+    private void applyExecutionStats(Query query, int limit, SearchResult result) {
+        Document find = new Document("find", mongoTemplate.getCollectionName(JobApplication.class))
+                .append("filter", query.getQueryObject())
+                .append("limit", limit);
+        if (!query.getSortObject().isEmpty()) {
+            find.append("sort", query.getSortObject());
+        }
+        query.getCollation().ifPresent(collation -> find.append("collation", collation.toDocument()));
+
+        Document explain = mongoTemplate.getDb().runCommand(
+                new Document("explain", find).append("verbosity", "executionStats"));
+        Document stats = explain.get("executionStats", Document.class);
+        if (stats == null) {
+            return;
+        }
+
+        result.setDocsExamined(toLong(stats.get("totalDocsExamined")));
+        result.setKeysExamined(toLong(stats.get("totalKeysExamined")));
+        result.setExecutionTimeMillis(toLong(stats.get("executionTimeMillis")));
+    }
+
+    private Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    public static class SearchResult {
+        private final List<JobApplication> applications;
+        private final int limit;
+        private Long docsExamined;
+        private Long keysExamined;
+        private Long executionTimeMillis;
+
+        public SearchResult(List<JobApplication> applications, int limit) {
+            this.applications = applications;
+            this.limit = limit;
+        }
+
+        public List<JobApplication> getApplications() { return applications; }
+        public int getLimit() { return limit; }
+        public int getReturned() { return applications.size(); }
+        public Long getDocsExamined() { return docsExamined; }
+        public void setDocsExamined(Long docsExamined) { this.docsExamined = docsExamined; }
+        public Long getKeysExamined() { return keysExamined; }
+        public void setKeysExamined(Long keysExamined) { this.keysExamined = keysExamined; }
+        public Long getExecutionTimeMillis() { return executionTimeMillis; }
+        public void setExecutionTimeMillis(Long executionTimeMillis) { this.executionTimeMillis = executionTimeMillis; }
+    }
+}
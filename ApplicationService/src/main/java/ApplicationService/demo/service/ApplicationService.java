@@ -1,16 +1,40 @@
 package ApplicationService.demo.service;
 
+import ApplicationService.demo.client.JobClient;
+import ApplicationService.demo.client.SkillClient;
+import ApplicationService.demo.client.UserClient;
 import ApplicationService.demo.model.JobApplication;
 import ApplicationService.demo.repository.ApplicationRepository;
+import ApplicationService.demo.util.ContinuationToken;
+import ApplicationService.demo.util.CursorPage;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.data.domain.Sort;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 public class ApplicationService {
@@ -19,34 +43,198 @@ public class ApplicationService {
     private ApplicationRepository applicationRepository;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private ApplicationQueryEngine applicationQueryEngine;
 
-    private static final String USER_SERVICE_URL = "http://UserService/api/users";
-    private static final String JOB_SERVICE_URL = "http://JobService/api/jobs";
+    @Autowired
+    private ApplicationCounters applicationCounters;
+
+    @Autowired
+    private ShortlistEngine shortlistEngine;
+
+    @Autowired
+    private SeekerSkillsNotifier seekerSkillsNotifier;
+
+    @Autowired
+    private ApplyValidator applyValidator;
+
+    @Autowired
+    private UserClient userClient;
+
+    @Autowired
+    private JobClient jobClient;
+
+    @Autowired
+    private SkillClient skillClient;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^[+]?[0-9]{10,15}$");
+
+    @Value("${applications.bulk.max-size:50000}")
+    private int bulkMaxSize;
 
     public JobApplication createApplication(JobApplication application) {
         validateApplication(application);
 
-        System.out.println("DEBUG: Validating user with ID: " + application.getJobSeekerId());
+        System.out.println("DEBUG: Validating user " + application.getJobSeekerId() + " and job " + application.getJobId());
+        ApplyValidator.Checks checks = applyValidator.check(application.getJobSeekerId(), application.getJobId());
 
-        if (!userExists(application.getJobSeekerId())) {
+        if (!checks.isUserExists()) {
             throw new RuntimeException("Job seeker not found with ID: " + application.getJobSeekerId() +
                     ". Please ensure the user exists and has proper roles assigned.");
         }
 
-        System.out.println("DEBUG: Validating job with ID: " + application.getJobId());
-
-        if (!jobExists(application.getJobId())) {
+        if (!checks.isJobExists()) {
             throw new RuntimeException("Job not found with ID: " + application.getJobId());
         }
 
-        if (hasAlreadyApplied(application.getJobSeekerId(), application.getJobId())) {
+        if (checks.isAlreadyApplied()) {
             throw new RuntimeException("User has already applied for this job");
         }
 
         validateApplicationRequirements(application);
+        // Left unset when a spelling is new (interned in the background); SkillIdBackfill fills it in later
+        application.setSkillIds(skillClient.internAll(application.getSkills()));
+
+        try {
+            JobApplication saved = applicationRepository.save(application);
+            applicationCounters.applicationCreated(saved);
+            seekerSkillsNotifier.skillsAdded(saved.getJobSeekerId(), saved.getSkills());
+            return saved;
+        } catch (DuplicateKeyException e) {
+            // A concurrent submit won the race; the unique index on pending applications rejected this one
+            throw new RuntimeException("User has already applied for this job");
+        }
+    }
+
+    // Bulk submission: validate in parallel, dedupe within the batch, check users/jobs and
+    // prior applications in batches, then insert the survivors with unordered bulk writes
+    public BulkResult createApplicationsBulk(List<JobApplication> applications) {
+        if (applications == null || applications.isEmpty()) {
+            throw new IllegalArgumentException("At least one application is required");
+        }
+        if (applications.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("At most " + bulkMaxSize + " applications can be submitted per request");
+        }
+
+        int total = applications.size();
+        String[] errors = new String[total];
+
+        IntStream.range(0, total).parallel().forEach(i -> {
+            try {
+                validateApplication(applications.get(i));
+                validateApplicationRequirements(applications.get(i));
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        });
+
+        Set<String> seen = new HashSet<>();
+        Set<String> jobSeekerIds = new HashSet<>();
+        Set<String> jobIds = new HashSet<>();
+        for (int i = 0; i < total; i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            JobApplication application = applications.get(i);
+            if (!seen.add(application.getJobSeekerId() + "|" + application.getJobId())) {
+                errors[i] = "Duplicate application for the same job in this batch";
+                continue;
+            }
+            jobSeekerIds.add(application.getJobSeekerId());
+            jobIds.add(application.getJobId());
+        }
+
+        Set<String> existingUsers = userClient.findExisting(jobSeekerIds);
+        Set<String> existingJobs = jobClient.findExisting(jobIds);
+        Set<String> alreadyApplied = findPendingApplicationKeys(jobSeekerIds);
+
+        List<Integer> toInsert = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            JobApplication application = applications.get(i);
+            if (!existingUsers.contains(application.getJobSeekerId())) {
+                errors[i] = "Job seeker not found with ID: " + application.getJobSeekerId();
+            } else if (!existingJobs.contains(application.getJobId())) {
+                errors[i] = "Job not found with ID: " + application.getJobId();
+            } else if (alreadyApplied.contains(application.getJobSeekerId() + "|" + application.getJobId())) {
+                errors[i] = "User has already applied for this job";
+            } else {
+                // Assign IDs up front so they can be reported without reading the inserts back
+                application.setId(new ObjectId().toHexString());
+                toInsert.add(i);
+            }
+        }
+
+        // New spellings across the whole batch are interned in one call
+        Set<String> skills = new HashSet<>();
+        toInsert.forEach(i -> {
+            if (applications.get(i).getSkills() != null) {
+                skills.addAll(applications.get(i).getSkills());
+            }
+        });
+        if (skillClient.intern(skills)) {
+            toInsert.forEach(i -> applications.get(i).setSkillIds(skillClient.vocabulary().idsOf(applications.get(i).getSkills())));
+        }
+
+        for (int from = 0; from < toInsert.size(); from += BULK_CHUNK_SIZE) {
+            insertChunk(applications, toInsert.subList(from, Math.min(from + BULK_CHUNK_SIZE, toInsert.size())), errors);
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(total);
+        List<JobApplication> inserted = new ArrayList<>();
+        int created = 0;
+        for (int i = 0; i < total; i++) {
+            if (errors[i] == null) {
+                created++;
+                inserted.add(applications.get(i));
+                results.add(new BulkItemResult(i, "CREATED", applications.get(i).getId(), null));
+            } else {
+                results.add(new BulkItemResult(i, "FAILED", null, errors[i]));
+            }
+        }
+        applicationCounters.applicationsCreated(inserted);
+        Map<String, Set<String>> skillsBySeeker = new HashMap<>();
+        for (JobApplication application : inserted) {
+            if (application.getSkills() != null) {
+                skillsBySeeker.computeIfAbsent(application.getJobSeekerId(), id -> new HashSet<>()).addAll(application.getSkills());
+            }
+        }
+        skillsBySeeker.forEach(seekerSkillsNotifier::skillsAdded);
+        return new BulkResult(total, created, total - created, results);
+    }
 
-        return applicationRepository.save(application);
+    private Set<String> findPendingApplicationKeys(Set<String> jobSeekerIds) {
+        Set<String> keys = new HashSet<>();
+        List<String> ids = new ArrayList<>(jobSeekerIds);
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            applicationRepository.findByJobSeekerIdInAndStatus(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())), "PENDING")
+                    .forEach(key -> keys.add(key.getJobSeekerId() + "|" + key.getJobId()));
+        }
+        return keys;
+    }
+
+    private void insertChunk(List<JobApplication> applications, List<Integer> indexes, String[] errors) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplication.class);
+        indexes.forEach(i -> bulk.insert(applications.get(i)));
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> errors[indexes.get(error.getIndex())] = error.getCode() == DUPLICATE_KEY_ERROR
+                    ? "User has already applied for this job"
+                    : "Failed to save application: " + error.getMessage());
+        } catch (RuntimeException e) {
+            indexes.forEach(i -> errors[i] = "Failed to save application: " + e.getMessage());
+        }
     }
 
     public List<JobApplication> getAllApplications() {
@@ -58,6 +246,41 @@ public class ApplicationService {
         return applicationRepository.findAll(sort);
     }
 
+    // Every skill each seeker has listed on any application; the caller must close the stream
+    public Stream<SeekerSkills> streamSeekerSkills() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("skills").exists(true)),
+                Aggregation.unwind("skills"),
+                Aggregation.group("jobSeekerId").addToSet("skills").as("skills"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregateStream(aggregation, JobApplication.class, Document.class)
+                .map(row -> new SeekerSkills(row.getString("_id"), row.getList("skills", String.class)));
+    }
+
+    // Backed by a Mongo cursor; the caller must close the stream
+    public Stream<JobApplication> streamAllApplications(Sort sort) {
+        return applicationRepository.streamAllBy(sort);
+    }
+
+    // Validated up front so a bad sortBy fails the request before a stream is started; unlike the
+    // list endpoints, an unknown field is rejected rather than replaced by applicationDate
+    public Sort streamSort(String sortBy, String sortDirection) {
+        if (sortBy != null && !sortBy.trim().isEmpty() && mapSortField(sortBy) == null) {
+            throw new IllegalArgumentException("Invalid sort field: " + sortBy);
+        }
+        if (sortDirection != null && !sortDirection.trim().isEmpty()
+                && !sortDirection.equalsIgnoreCase("asc") && !sortDirection.equalsIgnoreCase("desc")) {
+            throw new IllegalArgumentException("Invalid sort direction: " + sortDirection + ". Use asc or desc");
+        }
+        return (sortBy == null && sortDirection == null) ? Sort.unsorted() : createSort(sortBy, sortDirection);
+    }
+
+    public CursorPage<JobApplication> getAllApplications(String sortBy, String sortDirection, String cursor, Integer size) {
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findAllBy(position, limit, sort));
+    }
+
     public Optional<JobApplication> getApplicationById(String id) {
         if (id == null || id.trim().isEmpty()) {
             throw new IllegalArgumentException("Application ID cannot be null or empty");
@@ -90,6 +313,20 @@ public class ApplicationService {
         return applicationRepository.findByJobId(jobId, sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsByJob(String jobId, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (jobId == null || jobId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job ID cannot be null or empty");
+        }
+
+        if (!jobExists(jobId)) {
+            throw new RuntimeException("Job not found with ID: " + jobId);
+        }
+
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findByJobId(jobId, position, limit, sort));
+    }
+
     public List<JobApplication> getApplicationsByJobSeeker(String jobSeekerId) {
         if (jobSeekerId == null || jobSeekerId.trim().isEmpty()) {
             throw new IllegalArgumentException("Job seeker ID cannot be null or empty");
@@ -115,6 +352,20 @@ public class ApplicationService {
         return applicationRepository.findByJobSeekerId(jobSeekerId, sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsByJobSeeker(String jobSeekerId, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (jobSeekerId == null || jobSeekerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job seeker ID cannot be null or empty");
+        }
+
+        if (!userExists(jobSeekerId)) {
+            throw new RuntimeException("Job seeker not found with ID: " + jobSeekerId);
+        }
+
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findByJobSeekerId(jobSeekerId, position, limit, sort));
+    }
+
     public List<JobApplication> getApplicationsByJobAndStatus(String jobId, String status) {
         if (jobId == null || jobId.trim().isEmpty()) {
             throw new IllegalArgumentException("Job ID cannot be null or empty");
@@ -150,6 +401,25 @@ public class ApplicationService {
         return applicationRepository.findByJobIdAndStatus(jobId, status, sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsByJobAndStatus(String jobId, String status, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (jobId == null || jobId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job ID cannot be null or empty");
+        }
+        if (status == null || status.trim().isEmpty()) {
+            throw new IllegalArgumentException("Status cannot be null or empty");
+        }
+
+        validateStatus(status);
+
+        if (!jobExists(jobId)) {
+            throw new RuntimeException("Job not found with ID: " + jobId);
+        }
+
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findByJobIdAndStatus(jobId, status, position, limit, sort));
+    }
+
     public List<JobApplication> getApplicationsByJobSeekerAndStatus(String jobSeekerId, String status) {
         if (jobSeekerId == null || jobSeekerId.trim().isEmpty()) {
             throw new IllegalArgumentException("Job seeker ID cannot be null or empty");
@@ -187,6 +457,25 @@ public class ApplicationService {
         return applicationRepository.findByJobSeekerIdAndStatus(jobSeekerId, status, sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsByJobSeekerAndStatus(String jobSeekerId, String status, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (jobSeekerId == null || jobSeekerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job seeker ID cannot be null or empty");
+        }
+        if (status == null || status.trim().isEmpty()) {
+            throw new IllegalArgumentException("Status cannot be null or empty");
+        }
+
+        validateStatus(status);
+
+        if (!userExists(jobSeekerId)) {
+            throw new RuntimeException("Job seeker not found with ID: " + jobSeekerId);
+        }
+
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findByJobSeekerIdAndStatus(jobSeekerId, status, position, limit, sort));
+    }
+
     public JobApplication updateApplicationStatus(String id, String status) {
         if (id == null || id.trim().isEmpty()) {
             throw new IllegalArgumentException("Application ID cannot be null or empty");
@@ -205,8 +494,11 @@ public class ApplicationService {
             throw new RuntimeException("Cannot update application status from final state: " + application.getStatus());
         }
 
+        String previousStatus = application.getStatus();
         application.setStatus(status.toUpperCase());
-        return applicationRepository.save(application);
+        JobApplication saved = applicationRepository.save(application);
+        applicationCounters.statusChanged(saved.getJobId(), previousStatus, saved.getStatus());
+        return saved;
     }
 
     public void deleteApplication(String id) {
@@ -214,11 +506,11 @@ public class ApplicationService {
             throw new IllegalArgumentException("Application ID cannot be null or empty");
         }
 
-        if (!applicationRepository.existsById(id)) {
-            throw new RuntimeException("Application not found with ID: " + id);
-        }
+        JobApplication application = applicationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Application not found with ID: " + id));
 
         applicationRepository.deleteById(id);
+        applicationCounters.applicationDeleted(application);
     }
 
     // Sorting helper method
@@ -238,6 +530,15 @@ public class ApplicationService {
         return applicationRepository.findBySkillsContainingIgnoreCase(skill, sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsBySkill(String skill, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (skill == null || skill.trim().isEmpty()) {
+            throw new IllegalArgumentException("Skill cannot be null or empty");
+        }
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findBySkillsContainingIgnoreCase(skill, position, limit, sort));
+    }
+
     public List<JobApplication> getApplicationsByExperience(String experience) {
         if (experience == null || experience.trim().isEmpty()) {
             throw new IllegalArgumentException("Experience cannot be null or empty");
@@ -253,6 +554,15 @@ public class ApplicationService {
         return applicationRepository.findByExperienceContainingIgnoreCase(experience, sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsByExperience(String experience, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (experience == null || experience.trim().isEmpty()) {
+            throw new IllegalArgumentException("Experience cannot be null or empty");
+        }
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findByExperienceContainingIgnoreCase(experience, position, limit, sort));
+    }
+
     public List<JobApplication> getApplicationsByDegree(String degree) {
         if (degree == null || degree.trim().isEmpty()) {
             throw new IllegalArgumentException("Degree cannot be null or empty");
@@ -268,6 +578,15 @@ public class ApplicationService {
         return applicationRepository.findByDegreeContainingIgnoreCase(degree, sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsByDegree(String degree, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (degree == null || degree.trim().isEmpty()) {
+            throw new IllegalArgumentException("Degree cannot be null or empty");
+        }
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findByDegreeContainingIgnoreCase(degree, position, limit, sort));
+    }
+
     public List<JobApplication> getApplicationsByStatus(String status) {
         if (status == null || status.trim().isEmpty()) {
             throw new IllegalArgumentException("Status cannot be null or empty");
@@ -285,44 +604,42 @@ public class ApplicationService {
         return applicationRepository.findByStatus(status.toUpperCase(), sort);
     }
 
+    public CursorPage<JobApplication> getApplicationsByStatus(String status, String sortBy, String sortDirection, String cursor, Integer size) {
+        if (status == null || status.trim().isEmpty()) {
+            throw new IllegalArgumentException("Status cannot be null or empty");
+        }
+        validateStatus(status);
+        Sort sort = createSort(sortBy, sortDirection);
+        return scroll(sort, cursor, size,
+                (position, limit) -> applicationRepository.findByStatus(status.toUpperCase(), position, limit, sort));
+    }
+
     // Advanced search with multiple criteria
     public List<JobApplication> searchApplications(String skill, String experience, String degree, String status, String sortBy, String sortDirection) {
-        // Start with all applications
-        List<JobApplication> applications = applicationRepository.findAll();
+        return searchApplications(skill, experience, degree, status, sortBy, sortDirection, null, false).getApplications();
+    }
 
-        // Apply filters
-        if (skill != null && !skill.trim().isEmpty()) {
-            applications = applications.stream()
-                    .filter(app -> app.getSkills() != null &&
-                            app.getSkills().stream()
-                                    .anyMatch(s -> s.toLowerCase().contains(skill.toLowerCase())))
-                    .toList();
+    public ApplicationQueryEngine.SearchResult searchApplications(String skill, String experience, String degree, String status,
+                                                                  String sortBy, String sortDirection, Integer limit, boolean explain) {
+        if (status != null && !status.trim().isEmpty()) {
+            validateStatus(status);
         }
 
-        if (experience != null && !experience.trim().isEmpty()) {
-            applications = applications.stream()
-                    .filter(app -> app.getExperience() != null &&
-                            app.getExperience().toLowerCase().contains(experience.toLowerCase()))
-                    .toList();
-        }
+        return applicationQueryEngine.search(skill, experience, degree, status, searchSort(sortBy, sortDirection), limit, explain);
+    }
 
-        if (degree != null && !degree.trim().isEmpty()) {
-            applications = applications.stream()
-                    .filter(app -> app.getDegree() != null &&
-                            app.getDegree().toLowerCase().contains(degree.toLowerCase()))
-                    .toList();
+    // Search keeps its original ordering rules: ascending unless "desc" is asked for, and skills
+    // ordered by the first skill listed (the engine compares strings case-insensitively)
+    private Sort searchSort(String sortBy, String sortDirection) {
+        if (sortBy == null && sortDirection == null) {
+            return Sort.unsorted();
         }
-
-        if (status != null && !status.trim().isEmpty()) {
-            validateStatus(status);
-            applications = applications.stream()
-                    .filter(app -> app.getStatus() != null &&
-                            app.getStatus().equalsIgnoreCase(status))
-                    .toList();
+        String field = validateAndMapSortField(sortBy != null ? sortBy : "applicationDate");
+        if (field.equals("skills")) {
+            field = "skills.0";
         }
-
-        // Apply sorting
-        return sortApplications(applications, sortBy, sortDirection);
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, field);
     }
 
     // Enhanced sorting helper method
@@ -344,8 +661,35 @@ public class ApplicationService {
         return Sort.by(direction, validatedSortBy);
     }
 
+    // Keyset pagination helper: seeks past the cursor's (sort field, _id) instead of skipping rows
+    private CursorPage<JobApplication> scroll(Sort sort, String cursor, Integer size,
+                                              BiFunction<KeysetScrollPosition, Limit, Window<JobApplication>> query) {
+        if (sort.getOrderFor("skills") != null) {
+            throw new IllegalArgumentException("Cursor pagination is not supported when sorting by skills");
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        KeysetScrollPosition position = ContinuationToken.decode(sort, cursor);
+        Window<JobApplication> window = query.apply(position, Limit.of(pageSize));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = ContinuationToken.encode(sort, window.positionAt(window.size() - 1));
+        }
+        return new CursorPage<>(window.getContent(), pageSize, window.hasNext(), nextCursor);
+    }
+
     private String validateAndMapSortField(String sortBy) {
-        // Map request field names to entity field names
+        String field = mapSortField(sortBy);
+        return field != null ? field : "applicationDate";
+    }
+
+    // Map request field names to entity field names; null for unknown fields
+    private String mapSortField(String sortBy) {
         switch (sortBy.toLowerCase()) {
             case "date":
             case "applicationdate":
@@ -369,63 +713,10 @@ public class ApplicationService {
             case "phone":
                 return "phone";
             default:
-                return "applicationDate"; 
+                return null;
         }
     }
 
-    // Manual sorting method for advanced searches
-    private List<JobApplication> sortApplications(List<JobApplication> applications, String sortBy, String sortDirection) {
-        if (sortBy == null && sortDirection == null) {
-            return applications;
-        }
-
-        String validatedSortBy = validateAndMapSortField(sortBy != null ? sortBy : "applicationDate");
-        boolean ascending = !"desc".equalsIgnoreCase(sortDirection);
-
-        List<JobApplication> sortedApplications = applications.stream()
-                .sorted((a1, a2) -> {
-                    int result = 0;
-                    switch (validatedSortBy.toLowerCase()) {
-                        case "applicationdate":
-                            result = a1.getApplicationDate().compareTo(a2.getApplicationDate());
-                            break;
-                        case "name":
-                            result = a1.getName().compareToIgnoreCase(a2.getName());
-                            break;
-                        case "email":
-                            result = a1.getEmail().compareToIgnoreCase(a2.getEmail());
-                            break;
-                        case "status":
-                            result = a1.getStatus().compareToIgnoreCase(a2.getStatus());
-                            break;
-                        case "experience":
-                            result = a1.getExperience().compareToIgnoreCase(a2.getExperience());
-                            break;
-                        case "degree":
-                            result = a1.getDegree().compareToIgnoreCase(a2.getDegree());
-                            break;
-                        case "skills":
-                            // Sort by first skill alphabetically
-                            String skills1 = a1.getSkills() != null && !a1.getSkills().isEmpty() ?
-                                    a1.getSkills().get(0) : "";
-                            String skills2 = a2.getSkills() != null && !a2.getSkills().isEmpty() ?
-                                    a2.getSkills().get(0) : "";
-                            result = skills1.compareToIgnoreCase(skills2);
-                            break;
-                        case "phone":
-                            result = a1.getPhone().compareToIgnoreCase(a2.getPhone());
-                            break;
-                        default:
-                            result = a1.getApplicationDate().compareTo(a2.getApplicationDate());
-                    }
-                    return ascending ? result : -result;
-                })
-                .toList();
-
-        return sortedApplications;
-    }
-
-
     // Validation methods
     private void validateApplication(JobApplication application) {
         if (application == null) {
@@ -501,57 +792,20 @@ public class ApplicationService {
 
     // External service calls - IMPROVED with better error handling
     private boolean userExists(String userId) {
-        try {
-            String url = USER_SERVICE_URL + "/" + userId;
-            System.out.println("DEBUG: Calling User Service URL: " + url);
-
-            ResponseEntity<Object> response = restTemplate.getForEntity(url, Object.class);
-            System.out.println("DEBUG: User Service response status: " + response.getStatusCode());
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                System.out.println("DEBUG: User validation successful for ID: " + userId);
-                return true;
-            } else {
-                System.out.println("DEBUG: User validation failed with status: " + response.getStatusCode());
-                return false;
-            }
-        } catch (Exception e) {
-            System.err.println("ERROR checking user existence for ID " + userId + ": " + e.getMessage());
-            // Log the full exception for debugging
-            e.printStackTrace();
-            return false;
-        }
+        return userClient.userExists(userId);
     }
 
     private boolean jobExists(String jobId) {
-        try {
-            String url = JOB_SERVICE_URL + "/" + jobId;
-            System.out.println("DEBUG: Calling Job Service URL: " + url);
-
-            ResponseEntity<Object> response = restTemplate.getForEntity(url, Object.class);
-            System.out.println("DEBUG: Job Service response status: " + response.getStatusCode());
-
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
-            System.err.println("Error checking job existence: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-    private boolean hasAlreadyApplied(String jobSeekerId, String jobId) {
-        List<JobApplication> existingApplications = applicationRepository.findByJobSeekerIdAndStatus(jobSeekerId, "PENDING");
-        return existingApplications.stream()
-                .anyMatch(app -> app.getJobId().equals(jobId));
+        return jobClient.jobExists(jobId);
     }
 
     // Utility validation methods
     private boolean isValidEmail(String email) {
-        return email != null && email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+        return email != null && EMAIL_PATTERN.matcher(email).matches();
     }
 
     private boolean isValidPhone(String phone) {
-        return phone != null && phone.matches("^[+]?[0-9]{10,15}$");
+        return phone != null && PHONE_PATTERN.matcher(phone).matches();
     }
 
     private boolean isValidFileUrl(String url) {
@@ -563,19 +817,75 @@ public class ApplicationService {
         if (jobId == null || jobId.trim().isEmpty()) {
             throw new IllegalArgumentException("Job ID cannot be null or empty");
         }
-        return applicationRepository.findByJobId(jobId).size();
+        return applicationCounters.getTotal(jobId);
     }
 
     public long getPendingApplicationsCountForJob(String jobId) {
         if (jobId == null || jobId.trim().isEmpty()) {
             throw new IllegalArgumentException("Job ID cannot be null or empty");
         }
-        return applicationRepository.findByJobIdAndStatus(jobId, "PENDING").size();
+        return applicationCounters.getCount(jobId, "PENDING");
+    }
+
+    // Best k applications for the job, ranked against its required skills, experience and degree
+    public ShortlistEngine.Shortlist getShortlistForJob(String jobId, Integer k, String status) {
+        String effectiveStatus = status != null ? status : "PENDING";
+        validateStatus(effectiveStatus);
+        return shortlistEngine.shortlist(jobId, k, effectiveStatus);
     }
 
     public boolean canUserApply(String jobSeekerId, String jobId) {
-        return userExists(jobSeekerId) && jobExists(jobId) && !hasAlreadyApplied(jobSeekerId, jobId);
+        return applyValidator.check(jobSeekerId, jobId).canApply();
     }
 
+    public static class SeekerSkills {
+        private final String jobSeekerId;
+        private final List<String> skills;
 
-}
\ No newline at end of file
+        public SeekerSkills(String jobSeekerId, List<String> skills) {
+            this.jobSeekerId = jobSeekerId;
+            this.skills = skills;
+        }
+
+        public String getJobSeekerId() { return jobSeekerId; }
+        public List<String> getSkills() { return skills; }
+    }
+
+    public static class BulkResult {
+        private final int total;
+        private final int created;
+        private final int failed;
+        private final List<BulkItemResult> results;
+
+        public BulkResult(int total, int created, int failed, List<BulkItemResult> results) {
+            this.total = total;
+            this.created = created;
+            this.failed = failed;
+            this.results = results;
+        }
+
+        public int getTotal() { return total; }
+        public int getCreated() { return created; }
+        public int getFailed() { return failed; }
+        public List<BulkItemResult> getResults() { return results; }
+    }
+
+    public static class BulkItemResult {
+        private final int index;
+        private final String status;
+        private final String id;
+        private final String error;
+
+        public BulkItemResult(int index, String status, String id, String error) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.error = error;
+        }
+
+        public int getIndex() { return index; }
+        public String getStatus() { return status; }
+        public String getId() { return id; }
+        public String getError() { return error; }
+    }
+}
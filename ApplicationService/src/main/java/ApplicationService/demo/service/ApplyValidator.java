@@ -0,0 +1,109 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.client.JobClient;
+import ApplicationService.demo.client.UserClient;
+import ApplicationService.demo.repository.ApplicationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The user check (UserService), job check (JobService) and duplicate check (Mongo) before an
+// apply are independent, so they run at the same time on a small pool. An apply then waits for
+// the slowest check rather than the sum of all three, and never longer than the combined deadline.
+@Component
+public class ApplyValidator {
+
+    @Autowired
+    private UserClient userClient;
+
+    @Autowired
+    private JobClient jobClient;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Value("${applications.validation.timeout-millis:6000}")
+    private long timeoutMillis;
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final ExecutorService executor;
+
+    public ApplyValidator(@Value("${applications.validation.threads:64}") int threads,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // The checks only wait on I/O, so with virtual threads each one simply gets its own
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("apply-validation-", 1).factory());
+            return;
+        }
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "apply-validation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Checks check(String jobSeekerId, String jobId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        CompletableFuture<Boolean> userExists = CompletableFuture.supplyAsync(() -> userClient.userExists(jobSeekerId), executor);
+        CompletableFuture<Boolean> jobExists = CompletableFuture.supplyAsync(() -> jobClient.jobExists(jobId), executor);
+        CompletableFuture<Boolean> alreadyApplied = CompletableFuture.supplyAsync(
+                () -> applicationRepository.existsByJobSeekerIdAndJobIdAndStatus(jobSeekerId, jobId, "PENDING"), executor);
+        try {
+            return new Checks(await(userExists, deadline), await(jobExists, deadline), await(alreadyApplied, deadline));
+        } finally {
+            userExists.cancel(false);
+            jobExists.cancel(false);
+            alreadyApplied.cancel(false);
+        }
+    }
+
+    private boolean await(CompletableFuture<Boolean> check, long deadline) {
+        try {
+            return check.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ValidationTimeoutException("Could not validate the application in time; please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidationTimeoutException("Application validation was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Application validation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public static class Checks {
+        private final boolean userExists;
+        private final boolean jobExists;
+        private final boolean alreadyApplied;
+
+        public Checks(boolean userExists, boolean jobExists, boolean alreadyApplied) {
+            this.userExists = userExists;
+            this.jobExists = jobExists;
+            this.alreadyApplied = alreadyApplied;
+        }
+
+        public boolean isUserExists() { return userExists; }
+        public boolean isJobExists() { return jobExists; }
+        public boolean isAlreadyApplied() { return alreadyApplied; }
+
+        public boolean canApply() {
+            return userExists && jobExists && !alreadyApplied;
+        }
+    }
+}
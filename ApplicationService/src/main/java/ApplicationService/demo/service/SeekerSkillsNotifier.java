@@ -0,0 +1,76 @@
+package ApplicationService.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Tells services that keep per-seeker recommendations which skills a seeker listed on a new
+// application. Best effort: subscribers also reload all seeker skills periodically.
+@Component
+public class SeekerSkillsNotifier {
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Value("${seekers.change-subscribers:JobService}")
+    private List<String> subscribers;
+
+    private final RestTemplate restTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seeker-skills-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SeekerSkillsNotifier(RestTemplateBuilder restTemplateBuilder) {
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    public void skillsAdded(String jobSeekerId, Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return;
+        }
+        List<String> copy = List.copyOf(skills);
+        executor.execute(() -> notifySubscribers(jobSeekerId, copy));
+    }
+
+    private void notifySubscribers(String jobSeekerId, List<String> skills) {
+        for (String subscriber : subscribers) {
+            List<ServiceInstance> instances;
+            try {
+                instances = discoveryClient.getInstances(subscriber);
+            } catch (Exception e) {
+                System.err.println("ERROR resolving instances of " + subscriber + ": " + e.getMessage());
+                continue;
+            }
+            // Every instance keeps its own recommendations, so each one must be told
+            for (ServiceInstance instance : instances) {
+                try {
+                    restTemplate.postForLocation(instance.getUri() + "/internal/recommendations/seekers/{id}/skills", skills, jobSeekerId);
+                } catch (Exception e) {
+                    System.err.println("ERROR sending skills of seeker " + jobSeekerId + " to " + instance.getUri() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,323 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.client.JobClient;
+import ApplicationService.demo.client.JobDetails;
+import ApplicationService.demo.client.SkillClient;
+import ApplicationService.demo.client.SkillVocabulary;
+import ApplicationService.demo.model.JobApplication;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Ranks a job's applications against its requirements. Applications are streamed from a
+// cursor and only the best k are kept in a min-heap, so memory is O(k) and time O(n log k)
+// however many people applied.
+@Component
+public class ShortlistEngine {
+
+    static final int DEFAULT_K = 20;
+    static final int MAX_K = 500;
+
+    private static final double SKILL_WEIGHT = 0.6;
+    private static final double EXPERIENCE_WEIGHT = 0.25;
+    private static final double DEGREE_WEIGHT = 0.15;
+
+    private static final Pattern NUMBER = Pattern.compile("(\\d+(?:\\.\\d+)?)");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobClient jobClient;
+
+    @Autowired
+    private SkillClient skillClient;
+
+    public Shortlist shortlist(String jobId, Integer k, String status) {
+        if (jobId == null || jobId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job ID cannot be null or empty");
+        }
+        int size = k != null ? k : DEFAULT_K;
+        if (size < 1 || size > MAX_K) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_K);
+        }
+
+        JobDetails job = jobClient.findJob(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found with ID: " + jobId));
+        Scorer scorer = new Scorer(job, skillClient.vocabulary());
+
+        Query query = new Query(Criteria.where("jobId").is(jobId).and("status").is(status.toUpperCase()));
+        query.fields().include("jobSeekerId", "name", "email", "skills", "skillIds", "experience", "degree", "status", "applicationDate");
+
+        // Worst of the current top k sits at the head; earlier applications win ties
+        Comparator<Candidate> worstFirst = Comparator.<Candidate>comparingDouble(c -> c.score)
+                .thenComparing(c -> c.application.getApplicationDate(),
+                        Comparator.nullsFirst(Comparator.<LocalDateTime>reverseOrder()));
+        PriorityQueue<Candidate> top = new PriorityQueue<>(size + 1, worstFirst);
+
+        long scored = 0;
+        try (Stream<JobApplication> applications = mongoTemplate.stream(query, JobApplication.class)) {
+            for (JobApplication application : (Iterable<JobApplication>) applications::iterator) {
+                scored++;
+                Candidate candidate = new Candidate(application, scorer.score(application));
+                if (top.size() < size) {
+                    top.add(candidate);
+                } else if (worstFirst.compare(candidate, top.peek()) > 0) {
+                    top.poll();
+                    top.add(candidate);
+                }
+            }
+        }
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(worstFirst.reversed());
+        List<ShortlistEntry> entries = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            entries.add(scorer.explain(i + 1, ranked.get(i)));
+        }
+        return new Shortlist(jobId, size, scored, entries);
+    }
+
+    static Double years(String experience) {
+        if (experience == null) {
+            return null;
+        }
+        Matcher matcher = NUMBER.matcher(experience);
+        return matcher.find() ? Double.valueOf(matcher.group(1)) : null;
+    }
+
+    // 4 = doctorate, 3 = master's, 2 = bachelor's, 1 = diploma/associate, 0 = unknown
+    static int degreeLevel(String text) {
+        if (text == null) {
+            return 0;
+        }
+        String value = text.toLowerCase(Locale.ROOT);
+        if (value.contains("phd") || value.contains("doctor")) {
+            return 4;
+        }
+        if (value.contains("master") || value.contains("msc") || value.contains("mba")) {
+            return 3;
+        }
+        if (value.contains("bachelor") || value.contains("bsc") || value.contains("b.sc") || value.contains("undergrad")) {
+            return 2;
+        }
+        if (value.contains("diploma") || value.contains("associate")) {
+            return 1;
+        }
+        return 0;
+    }
+
+    // Requirements prepared once per request. Skills are compared as canonical dictionary IDs
+    // (so synonyms match) through an ID -> bit table; scoring an application that carries
+    // skillIds allocates nothing. Skills the dictionary does not know yet fall back to names.
+    static final class Scorer {
+        private final SkillVocabulary vocabulary;
+        private int[] bitBySkill = new int[0];
+        private final Map<String, Integer> bitByName = new HashMap<>();
+        private final List<String> requiredSkills = new ArrayList<>();
+        private final Double requiredYears;
+        private final String requiredExperience;
+        private final int requiredDegree;
+        private final BitSet matched = new BitSet();
+
+        Scorer(JobDetails job, SkillVocabulary vocabulary) {
+            this.vocabulary = vocabulary;
+            List<String> skills = job.getRequiredSkills();
+            if (skills != null) {
+                int[] ids = job.getRequiredSkillIds() != null && job.getRequiredSkillIds().length == skills.size()
+                        ? job.getRequiredSkillIds() : vocabulary.idsOf(skills);
+                for (int i = 0; i < skills.size(); i++) {
+                    String normalized = SkillVocabulary.normalize(skills.get(i));
+                    int id = ids != null ? ids[i] : vocabulary.idOf(normalized);
+                    if (normalized.isEmpty() || bitFor(id, normalized) >= 0) {
+                        continue;
+                    }
+                    int bit = requiredSkills.size();
+                    if (id > 0) {
+                        int skill = vocabulary.canonical(id);
+                        if (skill >= bitBySkill.length) {
+                            int from = bitBySkill.length;
+                            bitBySkill = Arrays.copyOf(bitBySkill, skill + 1);
+                            Arrays.fill(bitBySkill, from, bitBySkill.length, -1);
+                        }
+                        bitBySkill[skill] = bit;
+                    } else {
+                        bitByName.put(normalized, bit);
+                    }
+                    requiredSkills.add(skills.get(i).trim());
+                }
+            }
+            this.requiredYears = years(job.getExperience());
+            this.requiredExperience = job.getExperience() != null ? job.getExperience().trim() : null;
+            this.requiredDegree = degreeLevel(job.getPrerequisites());
+        }
+
+        double score(JobApplication application) {
+            return SKILL_WEIGHT * skillScore(application)
+                    + EXPERIENCE_WEIGHT * experienceScore(application)
+                    + DEGREE_WEIGHT * degreeScore(application);
+        }
+
+        // Share of the required skills the candidate lists
+        double skillScore(JobApplication application) {
+            if (requiredSkills.isEmpty() || application.getSkills() == null) {
+                return 0;
+            }
+            matched.clear();
+            int[] ids = application.getSkillIds();
+            if (ids != null && ids.length == application.getSkills().size() && bitByName.isEmpty()) {
+                for (int id : ids) {
+                    int bit = bitFor(id);
+                    if (bit >= 0) {
+                        matched.set(bit);
+                    }
+                }
+            } else {
+                for (String skill : application.getSkills()) {
+                    String normalized = SkillVocabulary.normalize(skill);
+                    int bit = bitFor(vocabulary.idOf(normalized), normalized);
+                    if (bit >= 0) {
+                        matched.set(bit);
+                    }
+                }
+            }
+            return (double) matched.cardinality() / requiredSkills.size();
+        }
+
+        private int bitFor(int id) {
+            int skill = vocabulary.canonical(id);
+            return id > 0 && skill < bitBySkill.length ? bitBySkill[skill] : -1;
+        }
+
+        private int bitFor(int id, String normalized) {
+            int bit = bitFor(id);
+            return bit >= 0 ? bit : bitByName.getOrDefault(normalized, -1);
+        }
+
+        // Years compared when both sides state a number, otherwise an exact text match counts
+        double experienceScore(JobApplication application) {
+            Double candidateYears = years(application.getExperience());
+            if (requiredYears != null && candidateYears != null) {
+                return requiredYears <= 0 ? 1 : Math.min(1, candidateYears / requiredYears);
+            }
+            if (requiredExperience == null || requiredExperience.isEmpty()) {
+                return 1;
+            }
+            return requiredExperience.equalsIgnoreCase(application.getExperience() == null ? "" : application.getExperience().trim()) ? 1 : 0;
+        }
+
+        // Full marks at or above the required level; without a stated requirement, higher is better
+        double degreeScore(JobApplication application) {
+            int level = degreeLevel(application.getDegree());
+            if (requiredDegree == 0) {
+                return level / 4.0;
+            }
+            return Math.min(1, (double) level / requiredDegree);
+        }
+
+        ShortlistEntry explain(int rank, Candidate candidate) {
+            JobApplication application = candidate.application;
+            skillScore(application);
+            List<String> matchedSkills = new ArrayList<>();
+            List<String> missingSkills = new ArrayList<>();
+            for (int bit = 0; bit < requiredSkills.size(); bit++) {
+                (matched.get(bit) ? matchedSkills : missingSkills).add(requiredSkills.get(bit));
+            }
+            return new ShortlistEntry(rank, application, round(candidate.score * 100), matchedSkills, missingSkills,
+                    round(experienceScore(application) * 100), round(degreeScore(application) * 100));
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+
+    static final class Candidate {
+        private final JobApplication application;
+        private final double score;
+
+        Candidate(JobApplication application, double score) {
+            this.application = application;
+            this.score = score;
+        }
+    }
+
+    public static class Shortlist {
+        private final String jobId;
+        private final int k;
+        private final long candidatesScored;
+        private final List<ShortlistEntry> entries;
+
+        public Shortlist(String jobId, int k, long candidatesScored, List<ShortlistEntry> entries) {
+            this.jobId = jobId;
+            this.k = k;
+            this.candidatesScored = candidatesScored;
+            this.entries = entries;
+        }
+
+        public String getJobId() { return jobId; }
+        public int getK() { return k; }
+        public long getCandidatesScored() { return candidatesScored; }
+        public List<ShortlistEntry> getEntries() { return entries; }
+    }
+
+    public static class ShortlistEntry {
+        private final int rank;
+        private final String applicationId;
+        private final String jobSeekerId;
+        private final String name;
+        private final String email;
+        private final String status;
+        private final LocalDateTime applicationDate;
+        private final double score;
+        private final List<String> matchedSkills;
+        private final List<String> missingSkills;
+        private final double experienceScore;
+        private final double degreeScore;
+
+        public ShortlistEntry(int rank, JobApplication application, double score, List<String> matchedSkills,
+                              List<String> missingSkills, double experienceScore, double degreeScore) {
+            this.rank = rank;
+            this.applicationId = application.getId();
+            this.jobSeekerId = application.getJobSeekerId();
+            this.name = application.getName();
+            this.email = application.getEmail();
+            this.status = application.getStatus();
+            this.applicationDate = application.getApplicationDate();
+            this.score = score;
+            this.matchedSkills = matchedSkills;
+            this.missingSkills = missingSkills;
+            this.experienceScore = experienceScore;
+            this.degreeScore = degreeScore;
+        }
+
+        public int getRank() { return rank; }
+        public String getApplicationId() { return applicationId; }
+        public String getJobSeekerId() { return jobSeekerId; }
+        public String getName() { return name; }
+        public String getEmail() { return email; }
+        public String getStatus() { return status; }
+        public LocalDateTime getApplicationDate() { return applicationDate; }
+        public double getScore() { return score; }
+        public List<String> getMatchedSkills() { return matchedSkills; }
+        public List<String> getMissingSkills() { return missingSkills; }
+        public double getExperienceScore() { return experienceScore; }
+        public double getDegreeScore() { return degreeScore; }
+    }
+}
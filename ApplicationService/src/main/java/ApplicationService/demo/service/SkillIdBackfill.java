@@ -0,0 +1,85 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.client.SkillClient;
+import ApplicationService.demo.model.JobApplication;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Stores skill dictionary IDs on applications saved before they carried them (or while
+// JobService could not intern their skills), so skill search can move off the text match.
+@Component
+public class SkillIdBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private SkillClient skillClient;
+
+    @Scheduled(initialDelayString = "${applications.skill-ids.backfill-initial-delay-ms:60000}",
+            fixedDelayString = "${applications.skill-ids.backfill-interval-ms:3600000}")
+    public void backfill() {
+        if (!skillClient.isLoaded()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long updated = 0;
+        Query query = new Query(Criteria.where("skillIds").exists(false).and("skills").exists(true));
+        query.fields().include("skills");
+
+        try (Stream<JobApplication> applications = mongoTemplate.stream(query, JobApplication.class)) {
+            Iterator<JobApplication> iterator = applications.iterator();
+            List<JobApplication> batch = new ArrayList<>(BATCH_SIZE);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE || !iterator.hasNext()) {
+                    updated += store(batch);
+                    batch.clear();
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("ERROR backfilling application skill IDs: " + e.getMessage());
+        }
+        if (updated > 0) {
+            System.out.println("DEBUG: Stored skill IDs on " + updated + " applications in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
+
+    private int store(List<JobApplication> batch) {
+        Set<String> skills = new HashSet<>();
+        batch.forEach(application -> skills.addAll(application.getSkills()));
+        if (!skillClient.intern(skills)) {
+            throw new IllegalStateException("JobService could not intern skills");
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplication.class);
+        int queued = 0;
+        for (JobApplication application : batch) {
+            int[] ids = skillClient.vocabulary().idsOf(application.getSkills());
+            if (ids != null) {
+                bulk.updateOne(new Query(Criteria.where("_id").is(application.getId())), new Update().set("skillIds", ids));
+                queued++;
+            }
+        }
+        if (queued > 0) {
+            bulk.execute();
+        }
+        return queued;
+    }
+}
@@ -0,0 +1,7 @@
+package ApplicationService.demo.service;
+
+public class ValidationTimeoutException extends RuntimeException {
+    public ValidationTimeoutException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package ApplicationService.demo.util;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Opaque cursor for keyset pagination: the sort it was issued for plus the
+// sort-field and _id values of the last document on the page.
+public final class ContinuationToken {
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private ContinuationToken() {
+    }
+
+    public static String encode(Sort sort, ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+
+        StringBuilder token = new StringBuilder(signature(sort));
+        for (Map.Entry<String, Object> key : keyset.getKeys().entrySet()) {
+            token.append(LINE_SEPARATOR)
+                    .append(key.getKey())
+                    .append(FIELD_SEPARATOR)
+                    .append(encodeValue(key.getValue()));
+        }
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetScrollPosition decode(Sort sort, String token) {
+        if (token == null || token.trim().isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        String[] lines = decoded.split(LINE_SEPARATOR);
+        if (!lines[0].equals(signature(sort))) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            String[] parts = lines[i].split(FIELD_SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            keys.put(parts[0], decodeValue(parts[1]));
+        }
+
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String signature(Sort sort) {
+        StringBuilder signature = new StringBuilder();
+        for (Sort.Order order : sort) {
+            if (!signature.isEmpty()) {
+                signature.append(',');
+            }
+            signature.append(order.getProperty()).append(':').append(order.getDirection());
+        }
+        return signature.toString();
+    }
+
+    private static String encodeValue(Object value) {
+        if (value == null) {
+            return "z:";
+        }
+        String type;
+        String raw;
+        if (value instanceof String s) {
+            type = "s";
+            raw = s;
+        } else if (value instanceof ObjectId id) {
+            type = "o";
+            raw = id.toHexString();
+        } else if (value instanceof LocalDateTime dateTime) {
+            type = "t";
+            raw = dateTime.toString();
+        } else if (value instanceof Date date) {
+            type = "d";
+            raw = String.valueOf(date.getTime());
+        } else if (value instanceof Double d) {
+            type = "f";
+            raw = String.valueOf(d);
+        } else if (value instanceof Integer n) {
+            type = "i";
+            raw = String.valueOf(n);
+        } else if (value instanceof Long n) {
+            type = "l";
+            raw = String.valueOf(n);
+        } else if (value instanceof Boolean b) {
+            type = "b";
+            raw = String.valueOf(b);
+        } else {
+            throw new IllegalArgumentException("Cannot paginate on values of type " + value.getClass().getSimpleName());
+        }
+        return type + ":" + URLEncoder.encode(raw, StandardCharsets.UTF_8);
+    }
+
+    private static Object decodeValue(String encoded) {
+        int colon = encoded.indexOf(':');
+        if (colon != 1) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String raw = URLDecoder.decode(encoded.substring(2), StandardCharsets.UTF_8);
+        try {
+            switch (encoded.charAt(0)) {
+                case 'z':
+                    return null;
+                case 's':
+                    return raw;
+                case 'o':
+                    return new ObjectId(raw);
+                case 't':
+                    return LocalDateTime.parse(raw);
+                case 'd':
+                    return new Date(Long.parseLong(raw));
+                case 'f':
+                    return Double.valueOf(raw);
+                case 'i':
+                    return Integer.valueOf(raw);
+                case 'l':
+                    return Long.valueOf(raw);
+                case 'b':
+                    return Boolean.valueOf(raw);
+                default:
+                    throw new IllegalArgumentException("Invalid cursor");
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ApplicationService.demo.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Closed-loop load generator: N virtual users, each holding one connection, send GETs back to back
+// for a fixed time, then throughput and latency percentiles are printed. Not run by the build.
+// Compare a service started with spring.threads.virtual.enabled=false (Tomcat pool) and =true:
+//
+//   java -cp target/test-classes ApplicationService.demo.bench.ConcurrencyBenchmark \
+//        "http://localhost:8083/api/applications/can-apply?jobSeekerId=...&jobId=..." 5000 60
+//
+// Arguments: URL, concurrent connections (default 5000), seconds (default 60). Raise the open
+// file limit (ulimit -n) on both sides first; 5000 connections need more than the usual 1024.
+public class ConcurrencyBenchmark {
+
+    private static final int MAX_SAMPLES = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        long seconds = args.length > 2 ? Long.parseLong(args[2]) : 60;
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLongArray latencies = new AtomicLongArray(MAX_SAMPLES);
+        AtomicLong samples = new AtomicLong();
+
+        // An HTTP/1.1 client opens a connection per concurrent request, so the pool grows to N
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10)).build();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                clients.execute(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+                    while (running.get()) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 500) {
+                                failed.incrementAndGet();
+                                continue;
+                            }
+                            completed.incrementAndGet();
+                            long index = samples.getAndIncrement();
+                            if (index < MAX_SAMPLES) {
+                                latencies.set((int) index, System.nanoTime() - start);
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            Thread.sleep(Duration.ofSeconds(seconds));
+            running.set(false);
+        }
+
+        long[] sorted = new long[(int) Math.min(samples.get(), MAX_SAMPLES)];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        System.out.printf("connections=%d seconds=%d completed=%d failed=%d throughput=%.1f req/s%n",
+                connections, seconds, completed.get(), failed.get(), completed.get() / (double) seconds);
+        System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,59 @@
+package ApplicationService.demo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearCacheTests {
+
+	@Test
+	void evictsLeastRecentlyUsedBeyondMaxSize() {
+		NearCache<String, String> cache = new NearCache<>("test", 2, Duration.ofMinutes(1));
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.get("a");
+		cache.put("c", "3");
+
+		assertEquals("1", cache.get("a"));
+		assertNull(cache.get("b"));
+		assertEquals("3", cache.get("c"));
+		assertEquals(1, cache.stats().getEvictions());
+	}
+
+	@Test
+	void expiresEntriesAfterTtl() {
+		NearCache<String, String> cache = new NearCache<>("test", 10, Duration.ofMinutes(1));
+		cache.put("a", "1", Duration.ZERO);
+
+		assertNull(cache.get("a"));
+		assertEquals(1, cache.stats().getExpirations());
+		assertEquals(1, cache.stats().getMisses());
+	}
+
+	@Test
+	void fullCacheEvictsFromTheHeadOnly() {
+		NearCache<String, String> cache = new NearCache<>("test", 2, Duration.ofMinutes(1));
+		cache.put("a", "1", Duration.ZERO);
+		cache.put("b", "2");
+		cache.put("c", "3");
+		cache.put("d", "4");
+
+		assertEquals(1, cache.stats().getExpirations());
+		assertEquals(1, cache.stats().getEvictions());
+		assertNull(cache.get("b"));
+		assertEquals("3", cache.get("c"));
+		assertEquals("4", cache.get("d"));
+	}
+
+	@Test
+	void invalidateRemovesEntry() {
+		NearCache<String, String> cache = new NearCache<>("test", 10, Duration.ofMinutes(1));
+		cache.put("a", "1");
+		cache.invalidate("a");
+
+		assertNull(cache.get("a"));
+		assertEquals(1, cache.stats().getInvalidations());
+	}
+}
@@ -0,0 +1,104 @@
+package ApplicationService.demo.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTests {
+
+	@Test
+	void opensOnFailuresThenClosesAfterASuccessfulProbe() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker("UserService", 4, 4, 50, Duration.ofSeconds(5),
+				Duration.ofMillis(100), 8, Duration.ZERO);
+		AtomicInteger remoteCalls = new AtomicInteger();
+
+		breaker.call(() -> remoteCalls.incrementAndGet());
+		breaker.call(() -> remoteCalls.incrementAndGet());
+		for (int i = 0; i < 2; i++) {
+			assertThrows(DependencyUnavailableException.class, () -> breaker.call(() -> {
+				remoteCalls.incrementAndGet();
+				throw new ResourceAccessException("Read timed out");
+			}));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+		// Open: rejected without reaching the dependency
+		assertThrows(DependencyUnavailableException.class, () -> breaker.call(() -> remoteCalls.incrementAndGet()));
+		assertEquals(4, remoteCalls.get());
+		assertFalse(breaker.isCallPermitted());
+
+		Thread.sleep(150);
+		assertTrue(breaker.isCallPermitted());
+		breaker.call(() -> remoteCalls.incrementAndGet());
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		assertEquals(1, breaker.stats().getOpenings());
+	}
+
+	@Test
+	void onlyTheProbeDecidesAHalfOpenCircuit() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker("JobService", 2, 2, 50, Duration.ofSeconds(5),
+				Duration.ofMillis(100), 8, Duration.ZERO);
+		CountDownLatch releaseStale = new CountDownLatch(1);
+		CountDownLatch releaseProbe = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// Started while closed, finishes only after the probe is out
+		Future<Integer> stale = executor.submit(() -> breaker.call(() -> {
+			releaseStale.await();
+			return 1;
+		}));
+		while (breaker.stats().getCalls() == 0) {
+			Thread.sleep(5);
+		}
+		for (int i = 0; i < 2; i++) {
+			assertThrows(DependencyUnavailableException.class, () -> breaker.call(() -> {
+				throw new ResourceAccessException("Connection refused");
+			}));
+		}
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+		Thread.sleep(150);
+		Future<Integer> probe = executor.submit(() -> breaker.call(() -> {
+			releaseProbe.await();
+			throw new ResourceAccessException("Connection refused");
+		}));
+		while (breaker.getState() != CircuitBreaker.State.HALF_OPEN) {
+			Thread.sleep(5);
+		}
+
+		releaseStale.countDown();
+		assertEquals(1, stale.get(2, TimeUnit.SECONDS));
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+		releaseProbe.countDown();
+		assertThrows(ExecutionException.class, () -> probe.get(2, TimeUnit.SECONDS));
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		executor.shutdown();
+	}
+
+	@Test
+	void treatsClientErrorsAsAnswers() {
+		CircuitBreaker breaker = new CircuitBreaker("JobService", 2, 2, 50, Duration.ofSeconds(5),
+				Duration.ofSeconds(10), 8, Duration.ZERO);
+
+		for (int i = 0; i < 4; i++) {
+			assertThrows(HttpClientErrorException.class, () -> breaker.call(() -> {
+				throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null);
+			}));
+		}
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		assertEquals(0, breaker.stats().getFailedCalls());
+	}
+}
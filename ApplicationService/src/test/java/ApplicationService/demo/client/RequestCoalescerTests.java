@@ -0,0 +1,85 @@
+package ApplicationService.demo.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTests {
+
+	@Test
+	void lookupsWithinWindowShareOneBatch() throws Exception {
+		List<Set<String>> batches = new CopyOnWriteArrayList<>();
+		RequestCoalescer<String> coalescer = new RequestCoalescer<>("test", keys -> {
+			batches.add(new HashSet<>(keys));
+			return Set.of("a", "c");
+		}, Duration.ofMillis(50), 100);
+
+		CompletableFuture<Boolean> a = coalescer.submit("a");
+		CompletableFuture<Boolean> b = coalescer.submit("b");
+		CompletableFuture<Boolean> again = coalescer.submit("a");
+
+		assertTrue(a.get());
+		assertFalse(b.get());
+		assertSame(a, again);
+		assertEquals(List.of(Set.of("a", "b")), batches);
+		assertEquals(3, coalescer.getRequestCount());
+		assertEquals(1, coalescer.getBatchCount());
+		coalescer.shutdown();
+	}
+
+	@Test
+	void fullBatchIsSentWithoutWaitingForWindow() throws Exception {
+		RequestCoalescer<String> coalescer = new RequestCoalescer<>("test", keys -> keys, Duration.ofMinutes(1), 2);
+
+		CompletableFuture<Boolean> a = coalescer.submit("a");
+		CompletableFuture<Boolean> b = coalescer.submit("b");
+
+		assertTrue(a.get());
+		assertTrue(b.get());
+		coalescer.shutdown();
+	}
+
+	@Test
+	void loaderFailureFailsEveryWaiter() {
+		RequestCoalescer<String> coalescer = new RequestCoalescer<>("test", keys -> {
+			throw new IllegalStateException("down");
+		}, Duration.ofMillis(1), 100);
+
+		assertThrows(Exception.class, () -> coalescer.submit("a").get());
+		coalescer.shutdown();
+	}
+
+	@Test
+	void slowLoadDoesNotHoldUpTheNextWindow() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		RequestCoalescer<String> coalescer = new RequestCoalescer<>("test", keys -> {
+			if (keys.contains("slow")) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return keys;
+		}, Duration.ofMillis(1), 100);
+
+		CompletableFuture<Boolean> slow = coalescer.submit("slow");
+		Thread.sleep(50);
+		CompletableFuture<Boolean> fast = coalescer.submit("fast");
+
+		assertTrue(fast.get(2, TimeUnit.SECONDS));
+		assertFalse(slow.isDone());
+		release.countDown();
+		assertTrue(slow.get(2, TimeUnit.SECONDS));
+		coalescer.shutdown();
+	}
+}
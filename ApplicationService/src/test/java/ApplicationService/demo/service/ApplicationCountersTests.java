@@ -0,0 +1,101 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.model.JobApplication;
+import ApplicationService.demo.model.JobApplicationCount;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApplicationCountersTests {
+
+	@Test
+	void seedsAMissingCounterFromARealCount() {
+		MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(JobApplicationCount.class)))
+				.thenReturn(UpdateResult.acknowledged(0, 0L, null));
+		when(mongoTemplate.aggregate(any(Aggregation.class), eq(JobApplication.class), eq(Document.class)))
+				.thenReturn(rows(row("job-1", "PENDING", 3), row("job-1", "ACCEPTED", 1)));
+
+		counters(mongoTemplate).applicationCreated(application("job-1", "PENDING"));
+
+		ArgumentCaptor<Update> seed = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).upsert(any(Query.class), seed.capture(), eq(JobApplicationCount.class));
+		Document setOnInsert = seed.getValue().getUpdateObject().get("$setOnInsert", Document.class);
+		assertEquals(4L, setOnInsert.get("total"));
+		assertEquals(Map.of("PENDING", 3L, "ACCEPTED", 1L), setOnInsert.get("byStatus"));
+		assertFalse(seed.getValue().getUpdateObject().containsKey("$inc"));
+	}
+
+	@Test
+	void existingCounterIsOnlyIncremented() {
+		MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+		when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(JobApplicationCount.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+		counters(mongoTemplate).applicationDeleted(application("job-1", "PENDING"));
+
+		verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq(JobApplication.class), eq(Document.class));
+		verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(JobApplicationCount.class));
+	}
+
+	@Test
+	void reconcileSkipsCountersWrittenDuringTheRun() {
+		MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+		BulkOperations bulk = mock(BulkOperations.class);
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplicationCount.class)).thenReturn(bulk);
+		when(mongoTemplate.aggregate(any(Aggregation.class), eq(JobApplication.class), eq(Document.class)))
+				.thenReturn(rows(row("job-1", "PENDING", 2)));
+		when(mongoTemplate.remove(any(Query.class), eq(JobApplicationCount.class))).thenReturn(DeleteResult.acknowledged(0));
+
+		counters(mongoTemplate).reconcile();
+
+		ArgumentCaptor<Query> overwrite = ArgumentCaptor.forClass(Query.class);
+		verify(bulk).updateOne(overwrite.capture(), any(Update.class));
+		Document filter = overwrite.getValue().getQueryObject();
+		assertEquals("job-1", filter.get("_id"));
+		assertTrue(filter.get("updatedAt", Document.class).containsKey("$lt"));
+
+		ArgumentCaptor<Update> create = ArgumentCaptor.forClass(Update.class);
+		verify(bulk).upsert(any(Query.class), create.capture());
+		assertEquals(Set.of("$setOnInsert"), create.getValue().getUpdateObject().keySet());
+		verify(bulk).execute();
+	}
+
+	private static ApplicationCounters counters(MongoTemplate mongoTemplate) {
+		ApplicationCounters counters = new ApplicationCounters();
+		ReflectionTestUtils.setField(counters, "mongoTemplate", mongoTemplate);
+		return counters;
+	}
+
+	private static JobApplication application(String jobId, String status) {
+		JobApplication application = new JobApplication();
+		application.setJobId(jobId);
+		application.setStatus(status);
+		return application;
+	}
+
+	private static Document row(String jobId, String status, long count) {
+		return new Document("_id", new Document("jobId", jobId).append("status", status)).append("count", count);
+	}
+
+	private static AggregationResults<Document> rows(Document... rows) {
+		return new AggregationResults<>(List.of(rows), new Document());
+	}
+}
@@ -0,0 +1,41 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.model.JobApplication;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ApplicationQueryEngineTests {
+
+	@Test
+	void stringSortsCompareCaseInsensitively() {
+		MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+		ApplicationQueryEngine engine = engine(mongoTemplate);
+
+		engine.search(null, null, null, null, Sort.by("name"), null, false);
+		engine.search(null, null, null, null, Sort.by(Sort.Direction.DESC, "applicationDate"), null, false);
+
+		ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate, times(2)).find(queries.capture(), eq(JobApplication.class));
+		Query byName = queries.getAllValues().get(0);
+		assertEquals(2, byName.getCollation().orElseThrow().toDocument().get("strength"));
+		assertEquals(List.of("name", "_id"), List.copyOf(byName.getSortObject().keySet()));
+		assertTrue(queries.getAllValues().get(1).getCollation().isEmpty());
+	}
+
+	private static ApplicationQueryEngine engine(MongoTemplate mongoTemplate) {
+		ApplicationQueryEngine engine = new ApplicationQueryEngine();
+		ReflectionTestUtils.setField(engine, "mongoTemplate", mongoTemplate);
+		ReflectionTestUtils.setField(engine, "maxResults", 1000);
+		return engine;
+	}
+}
@@ -0,0 +1,80 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.client.JobClient;
+import ApplicationService.demo.client.UserClient;
+import ApplicationService.demo.repository.ApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ApplyValidatorTests {
+
+	@Test
+	void runsTheChecksConcurrently() {
+		ApplyValidator validator = validator(300, 300, 1000);
+
+		long start = System.nanoTime();
+		ApplyValidator.Checks checks = validator.check("seeker-1", "job-1");
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		assertTrue(checks.isUserExists());
+		assertTrue(checks.isJobExists());
+		assertTrue(checks.isAlreadyApplied());
+		assertFalse(checks.canApply());
+		assertTrue(elapsedMillis < 800, "took " + elapsedMillis + " ms");
+	}
+
+	@Test
+	void failsWhenTheDeadlinePasses() {
+		ApplyValidator validator = validator(500, 0, 100);
+
+		assertThrows(ValidationTimeoutException.class, () -> validator.check("seeker-1", "job-1"));
+	}
+
+	@Test
+	void slowDuplicateCheckAlsoHitsTheDeadline() {
+		ApplyValidator validator = validator(0, 500, 100);
+
+		long start = System.nanoTime();
+		assertThrows(ValidationTimeoutException.class, () -> validator.check("seeker-1", "job-1"));
+		assertTrue((System.nanoTime() - start) / 1_000_000 < 400);
+	}
+
+	@Test
+	void runsRemoteChecksOnVirtualThreadsWhenEnabled() {
+		UserClient userClient = mock(UserClient.class);
+		when(userClient.userExists("seeker-1")).thenAnswer(invocation -> Thread.currentThread().isVirtual());
+		ApplyValidator validator = new ApplyValidator(4, true);
+		ReflectionTestUtils.setField(validator, "userClient", userClient);
+		ReflectionTestUtils.setField(validator, "jobClient", mock(JobClient.class));
+		ReflectionTestUtils.setField(validator, "applicationRepository", mock(ApplicationRepository.class));
+		ReflectionTestUtils.setField(validator, "timeoutMillis", 1000L);
+
+		assertTrue(validator.check("seeker-1", "job-1").isUserExists());
+	}
+
+	// Every check answers true, the remote ones and the duplicate check after their delays
+	private static ApplyValidator validator(long remoteDelayMillis, long duplicateDelayMillis, long timeoutMillis) {
+		UserClient userClient = mock(UserClient.class);
+		JobClient jobClient = mock(JobClient.class);
+		ApplicationRepository repository = mock(ApplicationRepository.class);
+		when(userClient.userExists("seeker-1")).thenAnswer(invocation -> sleepThenTrue(remoteDelayMillis));
+		when(jobClient.jobExists("job-1")).thenAnswer(invocation -> sleepThenTrue(remoteDelayMillis));
+		when(repository.existsByJobSeekerIdAndJobIdAndStatus("seeker-1", "job-1", "PENDING"))
+				.thenAnswer(invocation -> sleepThenTrue(duplicateDelayMillis));
+
+		ApplyValidator validator = new ApplyValidator(4, false);
+		ReflectionTestUtils.setField(validator, "userClient", userClient);
+		ReflectionTestUtils.setField(validator, "jobClient", jobClient);
+		ReflectionTestUtils.setField(validator, "applicationRepository", repository);
+		ReflectionTestUtils.setField(validator, "timeoutMillis", timeoutMillis);
+		return validator;
+	}
+
+	private static boolean sleepThenTrue(long millis) throws InterruptedException {
+		Thread.sleep(millis);
+		return true;
+	}
+}
@@ -0,0 +1,59 @@
+package ApplicationService.demo.service;
+
+import ApplicationService.demo.client.JobDetails;
+import ApplicationService.demo.client.SkillEntry;
+import ApplicationService.demo.client.SkillVocabulary;
+import ApplicationService.demo.model.JobApplication;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShortlistEngineTests {
+
+	@Test
+	void scoresSkillOverlapExperienceAndDegree() {
+		JobDetails job = new JobDetails();
+		job.setRequiredSkills(List.of("Java", "Spring", " SQL ", "java"));
+		job.setExperience("4 years");
+		job.setPrerequisites("Bachelor's degree in CS");
+		ShortlistEngine.Scorer scorer = new ShortlistEngine.Scorer(job, SkillVocabulary.EMPTY);
+
+		JobApplication strong = application(List.of("JAVA", "spring", "sql", "Docker"), "5 years", "BSc Computer Science");
+		JobApplication partial = application(List.of("java"), "2 years", "Diploma");
+
+		assertEquals(1.0, scorer.skillScore(strong));
+		assertEquals(1.0 / 3, scorer.skillScore(partial), 1e-9);
+		assertEquals(1.0, scorer.experienceScore(strong));
+		assertEquals(0.5, scorer.experienceScore(partial));
+		assertEquals(1.0, scorer.degreeScore(strong));
+		assertEquals(0.5, scorer.degreeScore(partial));
+		assertTrue(scorer.score(strong) > scorer.score(partial));
+	}
+
+	@Test
+	void matchesSkillsThroughDictionarySynonyms() {
+		SkillVocabulary vocabulary = new SkillVocabulary(List.of(
+				new SkillEntry(1, "javascript", 1), new SkillEntry(2, "js", 1), new SkillEntry(3, "react", 3)));
+		JobDetails job = new JobDetails();
+		job.setRequiredSkills(List.of("JavaScript", "React", "GraphQL"));
+		job.setRequiredSkillIds(new int[] { 1, 3, 0 });
+		ShortlistEngine.Scorer scorer = new ShortlistEngine.Scorer(job, vocabulary);
+
+		JobApplication withIds = application(List.of("JS", "react"), "1 year", null);
+		withIds.setSkillIds(new int[] { 2, 3 });
+		JobApplication withoutIds = application(List.of(" js ", "graphql"), "1 year", null);
+
+		assertEquals(2.0 / 3, scorer.skillScore(withIds), 1e-9);
+		assertEquals(2.0 / 3, scorer.skillScore(withoutIds), 1e-9);
+	}
+
+	private static JobApplication application(List<String> skills, String experience, String degree) {
+		JobApplication application = new JobApplication();
+		application.setSkills(skills);
+		application.setExperience(experience);
+		application.setDegree(degree);
+		return application;
+	}
+}
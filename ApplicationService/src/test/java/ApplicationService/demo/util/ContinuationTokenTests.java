@@ -0,0 +1,47 @@
+package ApplicationService.demo.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContinuationTokenTests {
+
+	private final Sort sort = Sort.by(Sort.Direction.DESC, "applicationDate");
+
+	@Test
+	void roundTripsSortKeys() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("applicationDate", LocalDateTime.of(2024, 5, 1, 10, 30));
+		keys.put("id", "665f1c2e9b1e8a3d4c5b6a79");
+
+		String token = ContinuationToken.encode(sort, ScrollPosition.forward(keys));
+		KeysetScrollPosition decoded = ContinuationToken.decode(sort, token);
+
+		assertEquals(keys, decoded.getKeys());
+	}
+
+	@Test
+	void missingCursorStartsFromFirstPage() {
+		assertTrue(ContinuationToken.decode(sort, null).isInitial());
+	}
+
+	@Test
+	void rejectsCursorIssuedForAnotherSort() {
+		String token = ContinuationToken.encode(sort, ScrollPosition.forward(Map.of("name", "Ann", "id", "x")));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> ContinuationToken.decode(Sort.by(Sort.Direction.ASC, "name"), token));
+	}
+
+	@Test
+	void rejectsGarbage() {
+		assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode(sort, "not a cursor!"));
+	}
+}
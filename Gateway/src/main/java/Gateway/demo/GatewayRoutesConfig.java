@@ -1,43 +1,91 @@
 package Gateway.demo;
 
+import Gateway.demo.lb.Upstream;
+import Gateway.demo.lb.UpstreamBalancer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.server.mvc.common.MvcUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
 import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.ServerResponse;
 
+import java.net.URI;
+
+import static org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions.route;
+import static org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions.http;
 import static org.springframework.web.servlet.function.RequestPredicates.path;
-import static org.springframework.web.servlet.function.RouterFunctions.route;
 
+// Requests are proxied to the services over the pooled client from ProxyClientConfig; request
+// and response bodies are streamed through, and the services' ports stay private. The instance
+// for each request is picked by UpstreamBalancer from the Eureka registry; the configured
+// upstream URIs are only used while a service has no registered instance.
 @Configuration
 public class GatewayRoutesConfig {
 
+    @Autowired
+    private UpstreamBalancer upstreamBalancer;
+
+    @Value("${gateway.upstream.application-service:http://localhost:8083}")
+    private String applicationServiceUri;
+
+    @Value("${gateway.upstream.job-service:http://localhost:8082}")
+    private String jobServiceUri;
+
+    @Value("${gateway.upstream.user-service:http://localhost:8081}")
+    private String userServiceUri;
+
     @Bean
     public RouterFunction<ServerResponse> applicationServiceRoute() {
-        return route(
-                path("/api/applications/**"),
-                request -> ServerResponse.temporaryRedirect(
-                        java.net.URI.create("http://localhost:8083" + request.path())
-                ).build()
-        );
+        return route("application-service")
+                .route(path("/api/applications/**"), http())
+                .filter(balanced("ApplicationService", applicationServiceUri))
+                .build();
     }
 
     @Bean
     public RouterFunction<ServerResponse> jobServiceRoute() {
-        return route(
-                path("/api/jobs/**"),
-                request -> ServerResponse.temporaryRedirect(
-                        java.net.URI.create("http://localhost:8082" + request.path())
-                ).build()
-        );
+        return route("job-service")
+                .route(path("/api/jobs/**"), http())
+                .filter(balanced("JobService", jobServiceUri))
+                .build();
     }
 
     @Bean
     public RouterFunction<ServerResponse> userServiceRoute() {
-        return route(
-                path("/api/users/**"),
-                request -> ServerResponse.temporaryRedirect(
-                        java.net.URI.create("http://localhost:8081" + request.path())
-                ).build()
-        );
+        return route("user-service")
+                .route(path("/api/users/**"), http())
+                .filter(balanced("UserService", userServiceUri))
+                .build();
+    }
+
+    // Points the request at the chosen instance and reports how the call went. Latency is measured
+    // to the response headers; the body is streamed to the client afterwards.
+    private HandlerFilterFunction<ServerResponse, ServerResponse> balanced(String serviceId, String fallbackUri) {
+        upstreamBalancer.register(serviceId, URI.create(fallbackUri));
+        return (request, next) -> {
+            Upstream upstream = upstreamBalancer.choose(serviceId);
+            if (upstream == null) {
+                return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            MvcUtils.setRequestUrl(request, upstream.getUri());
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                ServerResponse response = next.handle(request);
+                failed = isUpstreamFailure(response.statusCode());
+                return response;
+            } finally {
+                upstreamBalancer.requestFinished(upstream, System.nanoTime() - start, failed);
+            }
+        };
+    }
+
+    // Application errors (500) are the service answering; these mean it could not
+    private static boolean isUpstreamFailure(HttpStatusCode status) {
+        return status.value() == 502 || status.value() == 503 || status.value() == 504;
     }
 }
@@ -0,0 +1,84 @@
+package Gateway.demo;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+// Keep-alive connection pool used by the gateway routes to reach the services. Replaces the
+// default per-request client of the MVC gateway, so a proxied call reuses a warm connection
+// instead of paying a TCP handshake. Bodies are streamed in both directions, never buffered.
+@Configuration
+public class ProxyClientConfig {
+
+    @Value("${gateway.proxy.max-connections:2000}")
+    private int maxConnections;
+
+    @Value("${gateway.proxy.max-connections-per-route:500}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${gateway.proxy.connect-timeout-ms:1000}")
+    private long connectTimeoutMillis;
+
+    @Value("${gateway.proxy.response-timeout-ms:30000}")
+    private long responseTimeoutMillis;
+
+    @Value("${gateway.proxy.pool-acquire-timeout-ms:2000}")
+    private long poolAcquireTimeoutMillis;
+
+    @Value("${gateway.proxy.idle-timeout-ms:30000}")
+    private long idleTimeoutMillis;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager proxyConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                // LAX avoids a global pool lock; LIFO keeps the hottest connections in use
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.LAX)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient proxyHttpClient(PoolingHttpClientConnectionManager proxyConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(proxyConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                        .setRedirectsEnabled(false)
+                        .build())
+                // The gateway passes requests, redirects, cookies and encodings through untouched
+                .disableAutomaticRetries()
+                .disableRedirectHandling()
+                .disableCookieManagement()
+                .disableContentCompression()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis))
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public ClientHttpRequestFactory proxyRequestFactory(CloseableHttpClient proxyHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(proxyHttpClient);
+    }
+}
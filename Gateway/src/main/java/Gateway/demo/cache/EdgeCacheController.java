@@ -0,0 +1,78 @@
+package Gateway.demo.cache;
+
+import Gateway.demo.lb.Upstream;
+import Gateway.demo.lb.UpstreamBalancer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Map;
+
+// Purge notifications from JobService instances, and cache and request coalescing metrics. The gateway itself is public, so only
+// loopback and the addresses of registered JobService instances may call these.
+@RestController
+@RequestMapping("/internal/cache")
+public class EdgeCacheController {
+
+    private static final String JOB_SERVICE = "JobService";
+
+    @Autowired
+    private EdgeResponseCache cache;
+
+    @Autowired
+    private RequestCoalescingFilter requestCoalescingFilter;
+
+    @Autowired
+    private UpstreamBalancer upstreamBalancer;
+
+    @PostMapping("/jobs/purge")
+    public ResponseEntity<Void> purgeJobs(HttpServletRequest request) {
+        if (!isTrusted(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        cache.purge();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Long>> getStats(HttpServletRequest request) {
+        if (!isTrusted(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(cache.stats());
+    }
+
+    @GetMapping("/coalescing/stats")
+    public ResponseEntity<Map<String, Number>> getCoalescingStats(HttpServletRequest request) {
+        if (!isTrusted(request)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(requestCoalescingFilter.stats());
+    }
+
+    private boolean isTrusted(HttpServletRequest request) {
+        try {
+            InetAddress caller = InetAddress.getByName(request.getRemoteAddr());
+            if (caller.isLoopbackAddress()) {
+                return true;
+            }
+            for (Upstream upstream : upstreamBalancer.getUpstreams().getOrDefault(JOB_SERVICE, List.of())) {
+                for (InetAddress address : InetAddress.getAllByName(upstream.getUri().getHost())) {
+                    if (address.equals(caller)) {
+                        return true;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("ERROR checking cache purge caller " + request.getRemoteAddr() + ": " + e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+package Gateway.demo.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Serves repeated anonymous job listing GETs from EdgeResponseCache. On a miss the upstream
+// response is streamed to the client as usual while a copy (up to max-entry-bytes) is kept;
+// it is stored if the upstream allows it (Cache-Control) for max-age, s-maxage or the default
+// TTL, capped at max-ttl. Successful job writes passing through this gateway purge the cache;
+// writes through other gateways arrive as purge notifications from JobService.
+// Runs before RequestCoalescingFilter, so cache hits never wait on an in-flight call.
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class EdgeCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern MAX_AGE = Pattern.compile("(?:s-maxage|max-age)\\s*=\\s*(\\d+)");
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    private EdgeResponseCache cache;
+
+    @Value("${gateway.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gateway.cache.paths:/api/jobs,/api/jobs/sorted/**,/api/jobs/search,/api/jobs/search/**,/api/jobs/search-sort}")
+    private List<String> cachedPaths;
+
+    @Value("${gateway.cache.default-ttl-seconds:30}")
+    private long defaultTtlSeconds;
+
+    @Value("${gateway.cache.max-ttl-seconds:300}")
+    private long maxTtlSeconds;
+
+    @Value("${gateway.cache.max-entry-bytes:1048576}")
+    private int maxEntryBytes;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/jobs");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!"GET".equals(request.getMethod())) {
+            chain.doFilter(request, response);
+            if (!"HEAD".equals(request.getMethod()) && !"OPTIONS".equals(request.getMethod())
+                    && response.getStatus() >= 200 && response.getStatus() < 300) {
+                cache.purge();
+            }
+            return;
+        }
+        String requestCacheControl = lower(request.getHeader(HttpHeaders.CACHE_CONTROL));
+        if (!isCacheable(request) || requestCacheControl.contains("no-store")) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // no-cache: go to the origin, but the fresh response may replace the cached one
+        String key = key(request);
+        if (!requestCacheControl.contains("no-cache")) {
+            EdgeResponseCache.CachedResponse cached = cache.get(key);
+            if (cached != null) {
+                write(cached, response);
+                return;
+            }
+        }
+
+        long generation = cache.generation();
+        CapturingResponse capturing = new CapturingResponse(response, maxEntryBytes);
+        capturing.setHeader(CACHE_STATUS_HEADER, "MISS");
+        chain.doFilter(request, capturing);
+        capturing.flushBuffer();
+
+        long ttlSeconds = ttlSeconds(capturing);
+        if (capturing.getStatus() == 200 && ttlSeconds > 0 && capturing.isComplete()) {
+            cache.put(key, new EdgeResponseCache.CachedResponse(200, capturing.headers(), capturing.captured(),
+                    ttlSeconds * 1000), generation);
+        }
+    }
+
+    // Anonymous, JSON, on a listing path
+    private boolean isCacheable(HttpServletRequest request) {
+        if (request.getHeader(HttpHeaders.AUTHORIZATION) != null || request.getHeader(HttpHeaders.COOKIE) != null) {
+            return false;
+        }
+        if (lower(request.getHeader(HttpHeaders.ACCEPT)).contains("ndjson")) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        for (String pattern : cachedPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Path plus query parameters sorted by name, so ?a=1&b=2 and ?b=2&a=1 share an entry. Names and
+    // values are re-encoded, so a decoded '&' or '=' inside a value cannot pass for a separator.
+    static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(encode(parameter.getKey())).append('=').append(encode(value));
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    // 0 means the response must not be stored
+    private long ttlSeconds(HttpServletResponse response) {
+        String cacheControl = lower(response.getHeader(HttpHeaders.CACHE_CONTROL));
+        if (cacheControl.contains("no-store") || cacheControl.contains("private") || cacheControl.contains("no-cache")
+                || response.getHeader(HttpHeaders.SET_COOKIE) != null) {
+            return 0;
+        }
+        Matcher maxAge = MAX_AGE.matcher(cacheControl);
+        long ttl = defaultTtlSeconds;
+        // s-maxage is meant for shared caches like this one and wins over max-age
+        while (maxAge.find()) {
+            ttl = Long.parseLong(maxAge.group(1));
+            if (maxAge.group().startsWith("s-maxage")) {
+                break;
+            }
+        }
+        return Math.min(ttl, maxTtlSeconds);
+    }
+
+    private void write(EdgeResponseCache.CachedResponse cached, HttpServletResponse response) throws IOException {
+        response.setStatus(cached.getStatus());
+        cached.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(HttpHeaders.AGE, String.valueOf(cached.getAgeSeconds()));
+        response.setHeader(CACHE_STATUS_HEADER, "HIT");
+        response.setContentLength(cached.getBody().length);
+        response.getOutputStream().write(cached.getBody());
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,157 @@
+package Gateway.demo.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Responses of idempotent job listing GETs, bounded by entry count and total body bytes.
+// Eviction is LRU, and a new entry only displaces the LRU victim if it has been requested more
+// often recently (TinyLFU admission), so a burst of one-off queries cannot flush the popular
+// listings. Every job write purges the whole cache: any listing may contain the written job.
+@Component
+public class EdgeResponseCache {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    // Bumped by every purge; a response fetched before a purge is not stored after it
+    private volatile long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong purges = new AtomicLong();
+
+    public EdgeResponseCache(@Value("${gateway.cache.max-entries:10000}") int maxEntries,
+                             @Value("${gateway.cache.max-bytes:67108864}") long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.sketch = new FrequencySketch(maxEntries);
+    }
+
+    public CachedResponse get(String key) {
+        sketch.increment(key.hashCode());
+        lock.lock();
+        try {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && cached.isExpired(System.currentTimeMillis())) {
+                remove(key);
+                cached = null;
+            }
+            (cached != null ? hits : misses).incrementAndGet();
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    // Stores the response unless a purge happened since 'generation' was read
+    public void put(String key, CachedResponse response, long generation) {
+        if (response.size() > maxBytes) {
+            return;
+        }
+        int frequency = sketch.frequency(key.hashCode());
+        lock.lock();
+        try {
+            if (generation != this.generation) {
+                return;
+            }
+            remove(key);
+            Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+            while ((entries.size() >= maxEntries || bytes + response.size() > maxBytes) && eldest.hasNext()) {
+                Map.Entry<String, CachedResponse> victim = eldest.next();
+                if (!victim.getValue().isExpired(System.currentTimeMillis())
+                        && sketch.frequency(victim.getKey().hashCode()) >= frequency) {
+                    rejections.incrementAndGet();
+                    return;
+                }
+                eldest.remove();
+                bytes -= victim.getValue().size();
+                evictions.incrementAndGet();
+            }
+            entries.put(key, response);
+            bytes += response.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void purge() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            bytes = 0;
+            purges.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Long> stats() {
+        lock.lock();
+        try {
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("entries", (long) entries.size());
+            stats.put("bytes", bytes);
+            stats.put("hits", hits.get());
+            stats.put("misses", misses.get());
+            stats.put("evictions", evictions.get());
+            stats.put("rejectedAdmissions", rejections.get());
+            stats.put("purges", purges.get());
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.size();
+        }
+    }
+
+    public static class CachedResponse {
+        private final int status;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+        private final long storedAt;
+        private final long expiresAt;
+
+        public CachedResponse(int status, Map<String, List<String>> headers, byte[] body, long ttlMillis) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.storedAt = System.currentTimeMillis();
+            this.expiresAt = storedAt + ttlMillis;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        long size() {
+            return body.length;
+        }
+
+        public int getStatus() { return status; }
+        public Map<String, List<String>> getHeaders() { return headers; }
+        public byte[] getBody() { return body; }
+        public long getAgeSeconds() { return (System.currentTimeMillis() - storedAt) / 1000; }
+    }
+}
@@ -0,0 +1,149 @@
+package Gateway.demo.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Single-flight for hot GETs: while a request is on its way upstream, identical requests (same
+// path, sorted query, Accept, Authorization and Cookie) wait for it instead of making their own
+// call, and get a copy of its status, headers and body. The first request streams its response
+// as usual; a response too large to copy, or one setting a cookie, is not shared, and the
+// waiters then make their own calls, as they do if the first one takes longer than wait-timeout.
+// Only single-resource routes are coalesced by default (an ObjectId-shaped id segment), and
+// NDJSON requests never are: a stream cannot be copied and would only hold its waiters up.
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    private static final String COALESCED_HEADER = "X-Coalesced";
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, CompletableFuture<EdgeResponseCache.CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong leaders = new AtomicLong();
+    private final AtomicLong followers = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    @Value("${gateway.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gateway.coalescing.paths:/api/jobs/{id:[0-9a-f]{24}},/api/applications/job/{jobId:[0-9a-f]{24}}/count}")
+    private List<String> coalescedPaths;
+
+    @Value("${gateway.coalescing.max-body-bytes:1048576}")
+    private int maxBodyBytes;
+
+    @Value("${gateway.coalescing.wait-timeout-ms:2000}")
+    private long waitTimeoutMillis;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(NDJSON_VALUE)) {
+            return true;
+        }
+        for (String pattern : coalescedPaths) {
+            if (pathMatcher.match(pattern, request.getRequestURI())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = key(request);
+        CompletableFuture<EdgeResponseCache.CachedResponse> call = new CompletableFuture<>();
+        CompletableFuture<EdgeResponseCache.CachedResponse> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            follow(existing, request, response, chain);
+            return;
+        }
+
+        leaders.incrementAndGet();
+        EdgeResponseCache.CachedResponse shared = null;
+        try {
+            CapturingResponse capturing = new CapturingResponse(response, maxBodyBytes);
+            chain.doFilter(request, capturing);
+            capturing.flushBuffer();
+            if (capturing.isComplete() && capturing.getHeader(HttpHeaders.SET_COOKIE) == null) {
+                shared = new EdgeResponseCache.CachedResponse(capturing.getStatus(), capturing.headers(),
+                        capturing.captured(), 0);
+            }
+        } finally {
+            // Removed before completing, so a request arriving now starts a fresh call
+            inFlight.remove(key, call);
+            call.complete(shared);
+        }
+    }
+
+    public Map<String, Number> stats() {
+        long leaderCount = leaders.get();
+        long followerCount = followers.get();
+        long total = leaderCount + followerCount;
+        Map<String, Number> stats = new LinkedHashMap<>();
+        stats.put("upstreamCalls", leaderCount);
+        stats.put("coalesced", followerCount);
+        stats.put("fallbacks", fallbacks.get());
+        stats.put("inFlight", inFlight.size());
+        // Share of coalescable requests answered without a call of their own
+        stats.put("collapseRatio", total == 0 ? 0.0 : Math.round(followerCount * 10000.0 / total) / 10000.0);
+        return stats;
+    }
+
+    private void follow(CompletableFuture<EdgeResponseCache.CachedResponse> call, HttpServletRequest request,
+                        HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        EdgeResponseCache.CachedResponse shared = null;
+        try {
+            shared = call.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Fall through to our own call
+        }
+        if (shared == null) {
+            fallbacks.incrementAndGet();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        followers.incrementAndGet();
+        response.setStatus(shared.getStatus());
+        shared.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(COALESCED_HEADER, "true");
+        response.setContentLength(shared.getBody().length);
+        response.getOutputStream().write(shared.getBody());
+    }
+
+    // Anything that can change the response body is part of the key
+    private static String key(HttpServletRequest request) {
+        return String.join("\n", EdgeCacheFilter.key(request),
+                String.valueOf(request.getHeader(HttpHeaders.ACCEPT)),
+                String.valueOf(request.getHeader(HttpHeaders.AUTHORIZATION)),
+                String.valueOf(request.getHeader(HttpHeaders.COOKIE)));
+    }
+}
@@ -0,0 +1,96 @@
+package Gateway.demo.lb;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One instance of a service as seen by the gateway: requests in flight, a latency EWMA and
+// the passive health state used for outlier ejection. Kept across registry refreshes.
+// The EWMA decays towards zero while the instance is not sampled, so one that was slow once
+// is tried again rather than avoided for good.
+public class Upstream {
+
+    private final String serviceId;
+    private final URI uri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLong latencyEwmaBits = new AtomicLong(Double.doubleToLongBits(0));
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long lastSampledNanos = System.nanoTime();
+    private volatile int ejections;
+    private volatile long ejectedUntil;
+
+    public Upstream(String serviceId, URI uri) {
+        this.serviceId = serviceId;
+        this.uri = uri;
+    }
+
+    void requestStarted() {
+        outstanding.incrementAndGet();
+    }
+
+    void requestFinished(long latencyNanos, double alpha, long decayNanos) {
+        outstanding.decrementAndGet();
+        double millis = latencyNanos / 1_000_000.0;
+        long now = System.nanoTime();
+        double decay = decayFactor(now, decayNanos);
+        long current;
+        long next;
+        do {
+            current = latencyEwmaBits.get();
+            double ewma = Double.longBitsToDouble(current) * decay;
+            next = Double.doubleToLongBits(ewma == 0 ? millis : ewma + alpha * (millis - ewma));
+        } while (!latencyEwmaBits.compareAndSet(current, next));
+        lastSampledNanos = now;
+    }
+
+    // Fewer requests in flight first, then the faster instance
+    boolean isBetterThan(Upstream other, long now, long decayNanos) {
+        int inFlight = outstanding.get();
+        int otherInFlight = other.outstanding.get();
+        if (inFlight != otherInFlight) {
+            return inFlight < otherInFlight;
+        }
+        return latencyEwmaMillis(now, decayNanos) < other.latencyEwmaMillis(now, decayNanos);
+    }
+
+    // The EWMA as of now: loses ~63% of its weight per decayNanos without a sample
+    double latencyEwmaMillis(long now, long decayNanos) {
+        return getLatencyEwmaMillis() * decayFactor(now, decayNanos);
+    }
+
+    private double decayFactor(long now, long decayNanos) {
+        long idle = now - lastSampledNanos;
+        return idle <= 0 || decayNanos <= 0 ? 1.0 : Math.exp(-(double) idle / decayNanos);
+    }
+
+    int failed() {
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    void succeeded() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        if (ejections != 0 && !isEjected(System.currentTimeMillis())) {
+            ejections = 0;
+        }
+    }
+
+    // Each ejection in a row doubles the period, up to maxMillis
+    void eject(long now, long baseMillis, long maxMillis) {
+        long period = Math.min(maxMillis, baseMillis << Math.min(ejections, 20));
+        ejections++;
+        ejectedUntil = now + period;
+        consecutiveFailures.set(0);
+    }
+
+    boolean isEjected(long now) {
+        return ejectedUntil > now;
+    }
+
+    public String getServiceId() { return serviceId; }
+    public URI getUri() { return uri; }
+    public int getOutstanding() { return outstanding.get(); }
+    public double getLatencyEwmaMillis() { return Double.longBitsToDouble(latencyEwmaBits.get()); }
+    public boolean isEjected() { return isEjected(System.currentTimeMillis()); }
+}
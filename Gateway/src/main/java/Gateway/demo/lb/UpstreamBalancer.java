@@ -0,0 +1,145 @@
+package Gateway.demo.lb;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Picks the instance for each proxied request from a local copy of the Eureka registry: two
+// instances are drawn at random and the one with fewer requests in flight, then the lower
+// time-decayed latency EWMA, wins. Comparing a random pair rather than taking the global best
+// keeps every instance sampled, so one latency spike does not starve it. Instances that keep
+// failing (connection errors, 502/503/504) are ejected for a growing period, but never more
+// than a set share of a service. The copy is refreshed after every Eureka registry fetch, so
+// there is no registry lookup on the request path; a service with no registered instance uses
+// its fallback URI.
+@Component
+public class UpstreamBalancer {
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Value("${gateway.lb.ewma-alpha:0.3}")
+    private double ewmaAlpha;
+
+    @Value("${gateway.lb.ewma-decay-ms:10000}")
+    private long ewmaDecayMillis;
+
+    @Value("${gateway.lb.ejection.consecutive-failures:5}")
+    private int ejectionThreshold;
+
+    @Value("${gateway.lb.ejection.base-ms:10000}")
+    private long baseEjectionMillis;
+
+    @Value("${gateway.lb.ejection.max-ms:300000}")
+    private long maxEjectionMillis;
+
+    @Value("${gateway.lb.ejection.max-percent:50}")
+    private int maxEjectionPercent;
+
+    private final Map<String, URI> fallbacks = new ConcurrentHashMap<>();
+    private final Map<String, List<Upstream>> upstreams = new ConcurrentHashMap<>();
+
+    public void register(String serviceId, URI fallback) {
+        fallbacks.put(serviceId, fallback);
+    }
+
+    // Published by the Eureka client after each registry fetch
+    @EventListener(HeartbeatEvent.class)
+    public void refresh() {
+        for (String serviceId : fallbacks.keySet()) {
+            upstreams.put(serviceId, resolve(serviceId));
+        }
+    }
+
+    // null when the service has no instance at all
+    public Upstream choose(String serviceId) {
+        List<Upstream> candidates = upstreams.computeIfAbsent(serviceId, this::resolve);
+        long now = System.currentTimeMillis();
+        List<Upstream> healthy = new ArrayList<>(candidates.size());
+        for (Upstream upstream : candidates) {
+            if (!upstream.isEjected(now)) {
+                healthy.add(upstream);
+            }
+        }
+        // Every instance is ejected; the better of two is still better than failing fast
+        Upstream best = pickOfTwo(healthy.isEmpty() ? candidates : healthy);
+        if (best != null) {
+            best.requestStarted();
+        }
+        return best;
+    }
+
+    // failed: the instance could not be reached or answered 502/503/504
+    public void requestFinished(Upstream upstream, long latencyNanos, boolean failed) {
+        upstream.requestFinished(latencyNanos, ewmaAlpha, TimeUnit.MILLISECONDS.toNanos(ewmaDecayMillis));
+        if (!failed) {
+            upstream.succeeded();
+            return;
+        }
+        if (upstream.failed() < ejectionThreshold) {
+            return;
+        }
+        List<Upstream> peers = upstreams.getOrDefault(upstream.getServiceId(), List.of());
+        long now = System.currentTimeMillis();
+        long ejected = peers.stream().filter(peer -> peer.isEjected(now)).count();
+        if ((ejected + 1) * 100 <= (long) peers.size() * maxEjectionPercent) {
+            upstream.eject(now, baseEjectionMillis, maxEjectionMillis);
+            System.out.println("WARN: Ejected " + upstream.getServiceId() + " instance " + upstream.getUri()
+                    + " after repeated failures");
+        }
+    }
+
+    public Map<String, List<Upstream>> getUpstreams() {
+        return upstreams;
+    }
+
+    private Upstream pickOfTwo(List<Upstream> candidates) {
+        int size = candidates.size();
+        if (size <= 1) {
+            return size == 0 ? null : candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Upstream a = candidates.get(first);
+        Upstream b = candidates.get(second);
+        return b.isBetterThan(a, System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(ewmaDecayMillis)) ? b : a;
+    }
+
+    // Registered instances, keeping the stats of the ones already known
+    private List<Upstream> resolve(String serviceId) {
+        Map<URI, Upstream> known = new HashMap<>();
+        upstreams.getOrDefault(serviceId, List.of()).forEach(upstream -> known.put(upstream.getUri(), upstream));
+
+        List<Upstream> resolved = new ArrayList<>();
+        try {
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                URI uri = instance.getUri();
+                resolved.add(known.getOrDefault(uri, new Upstream(serviceId, uri)));
+            }
+        } catch (Exception e) {
+            System.err.println("ERROR resolving instances of " + serviceId + ": " + e.getMessage());
+        }
+        URI fallback = fallbacks.get(serviceId);
+        if (resolved.isEmpty() && fallback != null) {
+            resolved.add(known.getOrDefault(fallback, new Upstream(serviceId, fallback)));
+        }
+        return List.copyOf(resolved);
+    }
+}
@@ -0,0 +1,247 @@
+package JobService.demo.client;
+
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Circuit breaker and bulkhead for one remote dependency. The breaker opens when the share of
+// failed or slow calls among the last window-size calls reaches the threshold, rejects calls
+// while open, then lets a single probe through; the probe's outcome closes or reopens it. The
+// bulkhead caps calls in flight, so a slow dependency holds a bounded number of threads.
+// A 4xx is the dependency answering and counts as a success.
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // What tryEnter granted: nothing, an ordinary call, or the one half-open probe
+    private enum Permit { REJECTED, CALL, PROBE }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int maxConcurrent;
+    private final long maxWaitMillis;
+    private final Semaphore bulkhead;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Ring of the last calls' outcomes, true for a failure
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private final AtomicLong openings = new AtomicLong();
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRatePercent, Duration slowCall,
+                          Duration openDuration, int maxConcurrent, Duration maxWait) {
+        if (windowSize < 1 || maxConcurrent < 1) {
+            throw new IllegalArgumentException("Window size and concurrency must be at least 1");
+        }
+        this.name = name;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRatePercent = failureRatePercent;
+        this.slowCallNanos = slowCall.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.bulkhead = new Semaphore(maxConcurrent);
+    }
+
+    public <T> T call(Callable<T> call) {
+        if (!acquireBulkhead()) {
+            rejectedCalls.incrementAndGet();
+            throw new DependencyUnavailableException(name + " has too many calls in flight");
+        }
+        try {
+            Permit permit = tryEnter();
+            if (permit == Permit.REJECTED) {
+                rejectedCalls.incrementAndGet();
+                throw new DependencyUnavailableException(name + " is unavailable (circuit open)");
+            }
+            calls.incrementAndGet();
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                T result = call.call();
+                failed = System.nanoTime() - start > slowCallNanos;
+                return result;
+            } catch (HttpClientErrorException e) {
+                failed = false;
+                throw e;
+            } catch (Exception e) {
+                throw new DependencyUnavailableException(name + " call failed: " + e.getMessage(), e);
+            } finally {
+                record(permit == Permit.PROBE, failed);
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // Cheap check for callers that have a fallback and want to skip the call entirely
+    public boolean isCallPermitted() {
+        lock.lock();
+        try {
+            return state == State.CLOSED
+                    || (state == State.OPEN && System.nanoTime() - openedAt >= openNanos)
+                    || (state == State.HALF_OPEN && !probeInFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            int failureRate = recorded == 0 ? 0 : failures * 100 / recorded;
+            return new Stats(name, state.name(), failureRate, recorded, calls.get(), failedCalls.get(),
+                    rejectedCalls.get(), openings.get(), maxConcurrent - bulkhead.availablePermits(), maxConcurrent);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Permit tryEnter() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return Permit.CALL;
+                case OPEN:
+                    if (System.nanoTime() - openedAt < openNanos) {
+                        return Permit.REJECTED;
+                    }
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    System.out.println("DEBUG: Circuit for " + name + " half-open, sending a probe");
+                    return Permit.PROBE;
+                default:
+                    if (probeInFlight) {
+                        return Permit.REJECTED;
+                    }
+                    probeInFlight = true;
+                    return Permit.PROBE;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean probe, boolean failed) {
+        if (failed) {
+            failedCalls.incrementAndGet();
+        }
+        lock.lock();
+        try {
+            if (probe) {
+                if (state != State.HALF_OPEN) {
+                    return;
+                }
+                probeInFlight = false;
+                if (failed) {
+                    open();
+                } else {
+                    state = State.CLOSED;
+                    next = recorded = failures = 0;
+                    System.out.println("DEBUG: Circuit for " + name + " closed");
+                }
+                return;
+            }
+            if (state != State.CLOSED) {
+                // Started before the circuit opened; its outcome says nothing about the probe
+                return;
+            }
+            if (recorded == window.length) {
+                failures -= window[next] ? 1 : 0;
+            } else {
+                recorded++;
+            }
+            window[next] = failed;
+            failures += failed ? 1 : 0;
+            next = (next + 1) % window.length;
+            if (recorded >= minimumCalls && failures * 100 >= failureRatePercent * recorded) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        next = recorded = failures = 0;
+        openings.incrementAndGet();
+        System.out.println("WARN: Circuit for " + name + " opened; failing fast for " + openNanos / 1_000_000 + " ms");
+    }
+
+    public static class Stats {
+        private final String name;
+        private final String state;
+        private final int failureRatePercent;
+        private final int windowCalls;
+        private final long calls;
+        private final long failedCalls;
+        private final long rejectedCalls;
+        private final long openings;
+        private final int inFlight;
+        private final int maxConcurrent;
+
+        public Stats(String name, String state, int failureRatePercent, int windowCalls, long calls, long failedCalls,
+                     long rejectedCalls, long openings, int inFlight, int maxConcurrent) {
+            this.name = name;
+            this.state = state;
+            this.failureRatePercent = failureRatePercent;
+            this.windowCalls = windowCalls;
+            this.calls = calls;
+            this.failedCalls = failedCalls;
+            this.rejectedCalls = rejectedCalls;
+            this.openings = openings;
+            this.inFlight = inFlight;
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public String getName() { return name; }
+        public String getState() { return state; }
+        public int getFailureRatePercent() { return failureRatePercent; }
+        public int getWindowCalls() { return windowCalls; }
+        public long getCalls() { return calls; }
+        public long getFailedCalls() { return failedCalls; }
+        public long getRejectedCalls() { return rejectedCalls; }
+        public long getOpenings() { return openings; }
+        public int getInFlight() { return inFlight; }
+        public int getMaxConcurrent() { return maxConcurrent; }
+    }
+}
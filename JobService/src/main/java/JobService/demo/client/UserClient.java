@@ -0,0 +1,86 @@
+package JobService.demo.client;
+
+import JobService.demo.cache.NearCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+public class UserClient {
+
+    private static final String USER_SERVICE_URL = "http://UserService/api/users";
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CircuitBreakers circuitBreakers;
+
+    @Value("${users.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    @Value("${users.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    private NearCache<String, UserSummary> cache;
+    private CircuitBreaker breaker;
+
+    @PostConstruct
+    void initCache() {
+        cache = new NearCache<>("users", cacheMaxSize, Duration.ofSeconds(cacheTtlSeconds));
+        breaker = circuitBreakers.get("UserService");
+    }
+
+    // Empty when the user does not exist. Anything else is DependencyUnavailableException: roles
+    // decide authorization, so they are never answered from an expired entry
+    public Optional<Set<String>> findRoles(String userId) {
+        UserSummary cached = cache.get(userId);
+        if (cached != null) {
+            return Optional.of(rolesOf(cached));
+        }
+
+        try {
+            ResponseEntity<UserSummary> response = breaker.call(
+                    () -> restTemplate.getForEntity(USER_SERVICE_URL + "/" + userId, UserSummary.class));
+            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+                return Optional.empty();
+            }
+            cache.put(userId, response.getBody());
+            return Optional.of(rolesOf(response.getBody()));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    public NearCache.Stats cacheStats() {
+        return cache.stats();
+    }
+
+    private Set<String> rolesOf(UserSummary user) {
+        return user.getRoles() != null ? user.getRoles() : Collections.emptySet();
+    }
+
+    public static class UserSummary {
+        private String id;
+        private Set<String> roles;
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public Set<String> getRoles() { return roles; }
+        public void setRoles(Set<String> roles) { this.roles = roles; }
+    }
+}
@@ -0,0 +1,67 @@
+package JobService.demo.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// With virtual threads on, a thread that blocks while holding a monitor (synchronized) or inside
+// native code pins its carrier, and enough of those stall every request. This reports each
+// pinning that lasts longer than the threshold, with the frames holding it, from the JVM's own
+// jdk.VirtualThreadPinned event.
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final int REPORTED_FRAMES = 8;
+
+    @Value("${threads.pinning-detection.threshold-ms:20}")
+    private long thresholdMillis;
+
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+            stream.onEvent("jdk.VirtualThreadPinned", this::pinned);
+            stream.startAsync();
+            System.out.println("DEBUG: Reporting virtual thread pinning longer than " + thresholdMillis + " ms");
+        } catch (Exception e) {
+            System.err.println("ERROR starting virtual thread pinning detection: " + e.getMessage());
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private void pinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        StringBuilder frames = new StringBuilder();
+        List<RecordedFrame> stack = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        for (int i = 0; i < Math.min(REPORTED_FRAMES, stack.size()); i++) {
+            RecordedFrame frame = stack.get(i);
+            frames.append("\n    at ").append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber());
+        }
+        System.out.println("WARN: Virtual thread pinned its carrier for " + event.getDuration().toMillis() + " ms" + frames);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package JobService.demo.controller;
+
+import JobService.demo.cache.NearCache;
+import JobService.demo.client.UserClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/cache")
+public class CacheController {
+
+    @Autowired
+    private UserClient userClient;
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<NearCache.Stats>> getCacheStats() {
+        return ResponseEntity.ok(List.of(userClient.cacheStats()));
+    }
+
+    @DeleteMapping("/users/{userId}")
+    public ResponseEntity<Void> invalidateUser(@PathVariable String userId) {
+        userClient.invalidate(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,58 @@
+package JobService.demo.controller;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/http-client")
+public class HttpClientController {
+
+    @Autowired
+    private PoolingHttpClientConnectionManager interServiceConnectionManager;
+
+    // Pool utilization overall and per service instance; pending > 0 means callers are queueing
+    @GetMapping("/stats")
+    public ResponseEntity<PoolUsage> getPoolStats() {
+        List<PoolUsage> routes = new ArrayList<>();
+        for (HttpRoute route : interServiceConnectionManager.getRoutes()) {
+            routes.add(new PoolUsage(route.getTargetHost().toURI(), interServiceConnectionManager.getStats(route), null));
+        }
+        return ResponseEntity.ok(new PoolUsage("total", interServiceConnectionManager.getTotalStats(), routes));
+    }
+
+    public static class PoolUsage {
+        private final String route;
+        private final int leased;
+        private final int available;
+        private final int pending;
+        private final int max;
+        private final List<PoolUsage> routes;
+
+        public PoolUsage(String route, PoolStats stats, List<PoolUsage> routes) {
+            this.route = route;
+            this.leased = stats.getLeased();
+            this.available = stats.getAvailable();
+            this.pending = stats.getPending();
+            this.max = stats.getMax();
+            this.routes = routes;
+        }
+
+        public String getRoute() { return route; }
+        public int getLeased() { return leased; }
+        public int getAvailable() { return available; }
+        public int getPending() { return pending; }
+        public int getMax() { return max; }
+        public double getUtilization() { return max == 0 ? 0 : Math.round(leased * 10000.0 / max) / 10000.0; }
+        public List<PoolUsage> getRoutes() { return routes; }
+    }
+}
@@ -1,23 +1,44 @@
 package JobService.demo.controller;
 
+import JobService.demo.client.DependencyUnavailableException;
 import JobService.demo.model.Job;
 import JobService.demo.service.JobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/jobs")
 public class JobController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int NDJSON_FLUSH_INTERVAL = 100;
+
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${jobs.stream.timeout-millis:600000}")
+    private long streamTimeoutMillis;
+
     @PostMapping
     public ResponseEntity<?> createJob(@RequestBody Job job) {
         try {
@@ -26,6 +47,9 @@ public class JobController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(
                     new ErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    new ErrorResponse("Service Unavailable", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
                     new ErrorResponse("Authorization Error", e.getMessage()));
@@ -36,16 +60,37 @@ public class JobController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllJobs() {
+    public ResponseEntity<?> getAllJobs(
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(jobService.getAllJobs(cursor, size));
+            }
+
             List<Job> jobs = jobService.getAllJobs();
             return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                     new ErrorResponse("Server Error", "An error occurred while fetching jobs"));
         }
     }
 
+    @GetMapping(produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllJobs(NativeWebRequest request) {
+        // Exports outlive the default async timeout; only this request gets the longer one
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(streamTimeoutMillis);
+        StreamingResponseBody body = out -> {
+            try (Stream<Job> jobs = jobService.streamAllJobs()) {
+                writeNdjson(jobs, out);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getJobById(@PathVariable String id) {
         try {
@@ -61,9 +106,29 @@ public class JobController {
         }
     }
 
+    @PostMapping("/exists")
+    public ResponseEntity<?> findExistingJobs(@RequestBody List<String> ids) {
+        try {
+            return ResponseEntity.ok(Map.of("existing", jobService.findExistingJobIds(ids)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    new ErrorResponse("Server Error", "An error occurred while checking jobs"));
+        }
+    }
+
     @GetMapping("/hirer/{hirerId}")
-    public ResponseEntity<?> getJobsByHirer(@PathVariable String hirerId) {
+    public ResponseEntity<?> getJobsByHirer(
+            @PathVariable String hirerId,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(jobService.getJobsByHirer(hirerId, cursor, size));
+            }
+
             List<Job> jobs = jobService.getJobsByHirer(hirerId);
             return ResponseEntity.ok(jobs);
         } catch (IllegalArgumentException e) {
@@ -111,6 +176,9 @@ public class JobController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(
                     new ErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    new ErrorResponse("Service Unavailable", e.getMessage()));
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
                 return ResponseEntity.notFound().build();
@@ -171,23 +239,49 @@ public class JobController {
         }
     }
 
+    @GetMapping("/recommendations/{jobSeekerId}")
+    public ResponseEntity<?> getRecommendations(
+            @PathVariable String jobSeekerId,
+            @RequestParam(required = false) Integer k) {
+        try {
+            return ResponseEntity.ok(jobService.getRecommendations(jobSeekerId, k));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    new ErrorResponse("Unavailable", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    new ErrorResponse("Server Error", "An error occurred while fetching recommendations"));
+        }
+    }
+
     @GetMapping("/search/advanced")
     public ResponseEntity<?> advancedSearch(
             @RequestParam(required = false) String companyName,
             @RequestParam(required = false) String jobTitle,
             @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "any") String skillMatch,
             @RequestParam(required = false) Double minSalary,
             @RequestParam(required = false) Double maxSalary,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortOrder) {
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<Job> jobs = jobService.advancedSearch(companyName, jobTitle, skills, minSalary, maxSalary);
+            boolean matchAllSkills = "all".equalsIgnoreCase(skillMatch);
+            List<Job> jobs = jobService.advancedSearch(companyName, jobTitle, skills, matchAllSkills, minSalary, maxSalary);
             
             if (sortBy != null) {
-                jobs = jobService.sortJobs(jobs, sortBy, sortOrder != null ? sortOrder : "asc");
+                jobs = jobService.sortJobs(jobs, sortBy, sortOrder != null ? sortOrder : "asc", limit);
+            } else if (limit != null && limit >= 0 && limit < jobs.size()) {
+                jobs = jobs.subList(0, limit);
             }
             
             return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                     new ErrorResponse("Server Error", "An error occurred while performing advanced search"));
@@ -195,11 +289,21 @@ public class JobController {
     }
 
     @GetMapping("/sorted/date")
-    public ResponseEntity<?> getJobsSortedByDate(@RequestParam(defaultValue = "desc") String order) {
+    public ResponseEntity<?> getJobsSortedByDate(
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
             boolean ascending = "asc".equalsIgnoreCase(order);
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(jobService.getAllJobsSortedByDate(ascending, cursor, size));
+            }
+
             List<Job> jobs = jobService.getAllJobsSortedByDate(ascending);
             return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                     new ErrorResponse("Server Error", "An error occurred while fetching sorted jobs"));
@@ -207,11 +311,21 @@ public class JobController {
     }
 
     @GetMapping("/sorted/salary")
-    public ResponseEntity<?> getJobsSortedBySalary(@RequestParam(defaultValue = "desc") String order) {
+    public ResponseEntity<?> getJobsSortedBySalary(
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
             boolean ascending = "asc".equalsIgnoreCase(order);
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(jobService.getAllJobsSortedBySalary(ascending, cursor, size));
+            }
+
             List<Job> jobs = jobService.getAllJobsSortedBySalary(ascending);
             return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                     new ErrorResponse("Server Error", "An error occurred while fetching sorted jobs"));
@@ -219,10 +333,19 @@ public class JobController {
     }
 
     @GetMapping("/sorted/company")
-    public ResponseEntity<?> getJobsSortedByCompany() {
+    public ResponseEntity<?> getJobsSortedByCompany(
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (size != null || cursor != null) {
+                return ResponseEntity.ok(jobService.getAllJobsSortedByCompany(cursor, size));
+            }
+
             List<Job> jobs = jobService.getAllJobsSortedByCompany();
             return ResponseEntity.ok(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
                     new ErrorResponse("Server Error", "An error occurred while fetching sorted jobs"));
@@ -236,7 +359,8 @@ public class JobController {
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String skill,
             @RequestParam(defaultValue = "date") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortOrder) {
+            @RequestParam(defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) Integer limit) {
         try {
             List<Job> jobs;
             
@@ -249,10 +373,10 @@ public class JobController {
             } else if (skill != null) {
                 jobs = jobService.searchJobsBySkill(skill);
             } else {
-                jobs = jobService.getAllJobs();
+                jobs = jobService.getSearchableJobs();
             }
             
-            jobs = jobService.sortJobs(jobs, sortBy, sortOrder);
+            jobs = jobService.sortJobs(jobs, sortBy, sortOrder, limit);
             
             return ResponseEntity.ok(jobs);
         } catch (IllegalArgumentException e) {
@@ -264,6 +388,19 @@ public class JobController {
         }
     }
 
+    // One JSON document per line, flushed in small batches as the cursor advances
+    private void writeNdjson(Stream<Job> jobs, OutputStream out) throws IOException {
+        int written = 0;
+        for (Iterator<Job> it = jobs.iterator(); it.hasNext(); ) {
+            out.write(objectMapper.writeValueAsBytes(it.next()));
+            out.write('\n');
+            if (++written % NDJSON_FLUSH_INTERVAL == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+
     public static class ErrorResponse {
         private String error;
         private String message;
@@ -0,0 +1,48 @@
+package JobService.demo.controller;
+
+import JobService.demo.model.Job;
+import JobService.demo.service.JobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Non-blocking variants of the job read endpoints. Lists stream as NDJSON, one job per line,
+// written as the client consumes them; with Accept: application/json they are collected into
+// an array instead. The write endpoints stay on JobController.
+@RestController
+@RequestMapping("/api/jobs/reactive")
+public class ReactiveJobController {
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    @Autowired
+    private JobService jobService;
+
+    @Value("${jobs.stream.timeout-millis:600000}")
+    private long streamTimeoutMillis;
+
+    @GetMapping(produces = { NDJSON_VALUE, "application/json" })
+    public Flux<Job> getAllJobs(NativeWebRequest request) {
+        // Long lists and slow readers outlive the default async timeout; only these requests get the longer one
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(streamTimeoutMillis);
+        return jobService.readAllJobs();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Job>> getJobById(@PathVariable String id) {
+        return jobService.readJobById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/hirer/{hirerId}", produces = { NDJSON_VALUE, "application/json" })
+    public Flux<Job> getJobsByHirer(@PathVariable String hirerId, NativeWebRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(streamTimeoutMillis);
+        return jobService.readJobsByHirer(hirerId);
+    }
+}
@@ -0,0 +1,23 @@
+package JobService.demo.controller;
+
+import JobService.demo.service.JobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/recommendations")
+public class RecommendationController {
+
+    @Autowired
+    private JobService jobService;
+
+    @PostMapping("/seekers/{jobSeekerId}/skills")
+    public ResponseEntity<Void> addSeekerSkills(@PathVariable String jobSeekerId, @RequestBody List<String> skills) {
+        jobService.addSeekerSkills(jobSeekerId, skills);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,72 @@
+package JobService.demo.controller;
+
+import JobService.demo.client.DependencyUnavailableException;
+import JobService.demo.controller.JobController.ErrorResponse;
+import JobService.demo.service.JobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Skill dictionary: canonical skills and the synonyms that resolve to them. Changing synonyms
+// is restricted to ADMIN users.
+@RestController
+@RequestMapping("/api/jobs/skills")
+public class SkillController {
+
+    @Autowired
+    private JobService jobService;
+
+    @GetMapping
+    public ResponseEntity<?> getSkills() {
+        try {
+            return ResponseEntity.ok(jobService.getSkills());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    new ErrorResponse("Server Error", "An error occurred while fetching skills"));
+        }
+    }
+
+    @PostMapping("/synonyms")
+    public ResponseEntity<?> addSynonym(@RequestParam String adminId, @RequestBody SynonymRequest request) {
+        try {
+            return ResponseEntity.ok(jobService.addSkillSynonym(adminId, request.getSkill(), request.getSynonym()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    new ErrorResponse("Service Unavailable", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    new ErrorResponse("Authorization Error", e.getMessage()));
+        }
+    }
+
+    // Query parameter rather than path variable: skill names may contain '/' (e.g. "ci/cd")
+    @DeleteMapping("/synonyms")
+    public ResponseEntity<?> removeSynonym(@RequestParam String adminId, @RequestParam String synonym) {
+        try {
+            return ResponseEntity.ok(jobService.removeSkillSynonym(adminId, synonym));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("Validation Error", e.getMessage()));
+        } catch (DependencyUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                    new ErrorResponse("Service Unavailable", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
+                    new ErrorResponse("Authorization Error", e.getMessage()));
+        }
+    }
+
+    public static class SynonymRequest {
+        private String skill;
+        private String synonym;
+
+        public String getSkill() { return skill; }
+        public void setSkill(String skill) { this.skill = skill; }
+        public String getSynonym() { return synonym; }
+        public void setSynonym(String synonym) { this.synonym = synonym; }
+    }
+}
@@ -0,0 +1,28 @@
+package JobService.demo.controller;
+
+import JobService.demo.model.SkillEntry;
+import JobService.demo.service.JobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Service-to-service endpoints; the Gateway only routes /api/**, so these are not public
+@RestController
+@RequestMapping("/internal/skills")
+public class SkillDictionaryController {
+
+    @Autowired
+    private JobService jobService;
+
+    @GetMapping("/entries")
+    public List<SkillEntry> getEntries() {
+        return jobService.getSkillEntries();
+    }
+
+    // One entry per non-blank name, created where missing
+    @PostMapping("/intern")
+    public List<SkillEntry> intern(@RequestBody List<String> skills) {
+        return jobService.internSkills(skills);
+    }
+}
@@ -1,11 +1,24 @@
 package JobService.demo.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Document(collection = "jobs")
+// Sort indexes end in _id because every sort, in either direction, breaks ties on ascending _id
+// (the keyset tie-breaker). Walking an index backwards flips the _id direction too, so
+// {f: -1, _id: 1} cannot serve {f: 1, _id: 1}; each sort direction gets its own index.
+@CompoundIndexes({
+        @CompoundIndex(name = "hirer_posted_date", def = "{'hirerId': 1, 'postedDate': -1, '_id': 1}"),
+        @CompoundIndex(name = "posted_date", def = "{'postedDate': -1, '_id': 1}"),
+        @CompoundIndex(name = "posted_date_asc", def = "{'postedDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "expected_salary", def = "{'expectedSalary': -1, '_id': 1}"),
+        @CompoundIndex(name = "expected_salary_asc", def = "{'expectedSalary': 1, '_id': 1}"),
+        @CompoundIndex(name = "company_name", def = "{'companyName': 1, '_id': 1}")
+})
 public class Job {
     @Id
     private String id;
@@ -14,6 +27,8 @@ public class Job {
     private Double expectedSalary;
     private String preference; 
     private List<String> requiredSkills;
+    // Skill dictionary IDs of requiredSkills, in the same order; maintained by JobService
+    private int[] requiredSkillIds;
     private String experience; 
     private String workingHours;
     private String prerequisites;
@@ -51,6 +66,8 @@ public class Job {
     public void setPreference(String preference) { this.preference = preference; }
     public List<String> getRequiredSkills() { return requiredSkills; }
     public void setRequiredSkills(List<String> requiredSkills) { this.requiredSkills = requiredSkills; }
+    public int[] getRequiredSkillIds() { return requiredSkillIds; }
+    public void setRequiredSkillIds(int[] requiredSkillIds) { this.requiredSkillIds = requiredSkillIds; }
     public String getExperience() { return experience; }
     public void setExperience(String experience) { this.experience = experience; }
     public String getWorkingHours() { return workingHours; }
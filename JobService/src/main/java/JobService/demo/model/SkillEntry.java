@@ -0,0 +1,32 @@
+package JobService.demo.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// One spelling of a skill, normalized. A synonym points at the entry it is an alias of through
+// canonicalId; a skill that is not a synonym points at itself.
+@Document(collection = "skills")
+public class SkillEntry {
+    @Id
+    private int id;
+    @Indexed(name = "skill_name", unique = true)
+    private String name;
+    private int canonicalId;
+
+    public SkillEntry() {
+    }
+
+    public SkillEntry(int id, String name) {
+        this.id = id;
+        this.name = name;
+        this.canonicalId = id;
+    }
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public int getCanonicalId() { return canonicalId; }
+    public void setCanonicalId(int canonicalId) { this.canonicalId = canonicalId; }
+}
@@ -0,0 +1,325 @@
+package JobService.demo.repository;
+
+import JobService.demo.model.Job;
+import JobService.demo.model.SkillEntry;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// Reconciles the indexes declared on the documents with the ones in MongoDB, then explains
+// the query shape of each repository finder and flags the ones that still scan the collection.
+// Runs off the startup thread so the service comes up while MongoDB is unreachable.
+@Component
+public class IndexManager {
+
+    private static final String PROBE_ID = "000000000000000000000000";
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "postedDate").and(Sort.by("_id"));
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${indexes.drop-undeclared:false}")
+    private boolean dropUndeclared;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Report lastReport;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        Thread thread = new Thread(this::reconcile, "index-manager");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public Report reconcile() {
+        lock.lock();
+        try {
+            Report report = new Report();
+            reconcileIndexes(Job.class, report);
+            reconcileIndexes(SkillEntry.class, report);
+            for (Map.Entry<String, Query> probe : queryProbes().entrySet()) {
+                report.getPlans().add(explain(probe.getKey(), Job.class, probe.getValue()));
+            }
+            report.setCompletedAt(Instant.now());
+            lastReport = report;
+            print(report);
+            return report;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Report getLastReport() {
+        return lastReport;
+    }
+
+    // One representative query per finder in JobRepository, shaped like the derived query
+    private Map<String, Query> queryProbes() {
+        Map<String, Query> probes = new LinkedHashMap<>();
+        probes.put("findAllBy", new Query().with(Sort.by("_id")));
+        probes.put("findByHirerId", new Query(Criteria.where("hirerId").is(PROBE_ID)).with(NEWEST_FIRST));
+        probes.put("findAllByOrderByPostedDateDesc", new Query().with(NEWEST_FIRST));
+        probes.put("findAllByOrderByPostedDateAsc", new Query().with(Sort.by("postedDate", "_id")));
+        probes.put("findAllByOrderByExpectedSalaryDesc", new Query().with(Sort.by(Sort.Direction.DESC, "expectedSalary").and(Sort.by("_id"))));
+        probes.put("findAllByOrderByExpectedSalaryAsc", new Query().with(Sort.by("expectedSalary", "_id")));
+        probes.put("findAllByOrderByCompanyNameAsc", new Query().with(Sort.by("companyName", "_id")));
+        probes.put("findByCompanyNameContainingIgnoreCase", new Query(Criteria.where("companyName").regex(".*probe.*", "i")));
+        probes.put("findByJobTitleContainingIgnoreCase", new Query(Criteria.where("jobTitle").regex(".*probe.*", "i")));
+        return probes;
+    }
+
+    private void reconcileIndexes(Class<?> type, Report report) {
+        String collection = mongoTemplate.getCollectionName(type);
+        IndexOperations indexOps = mongoTemplate.indexOps(type);
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        Map<String, IndexInfo> existing;
+        try {
+            existing = indexOps.getIndexInfo().stream()
+                    .collect(Collectors.toMap(IndexInfo::getName, info -> info, (a, b) -> a, LinkedHashMap::new));
+        } catch (Exception e) {
+            report.getBuilds().add(new IndexBuild(collection, "*", "FAILED", 0, e.getMessage()));
+            return;
+        }
+
+        Set<String> declared = new HashSet<>();
+        for (IndexDefinition definition : resolver.resolveIndexFor(type)) {
+            String name = definition.getIndexOptions().getString("name");
+            declared.add(name);
+            IndexInfo current = existing.get(name);
+
+            String status;
+            if (current == null) {
+                status = "CREATED";
+            } else if (matches(definition, current)) {
+                report.getBuilds().add(new IndexBuild(collection, name, "PRESENT", 0, null));
+                continue;
+            } else {
+                // Same name, different keys or options: MongoDB cannot alter it in place
+                status = "REBUILT";
+            }
+
+            long start = System.nanoTime();
+            try {
+                if (current != null) {
+                    indexOps.dropIndex(name);
+                }
+                indexOps.ensureIndex(definition);
+                report.getBuilds().add(new IndexBuild(collection, name, status, elapsedMillis(start), null));
+            } catch (Exception e) {
+                report.getBuilds().add(new IndexBuild(collection, name, "FAILED", elapsedMillis(start), e.getMessage()));
+            }
+        }
+
+        for (String name : existing.keySet()) {
+            if (name.equals("_id_") || declared.contains(name)) {
+                continue;
+            }
+            if (!dropUndeclared) {
+                report.getBuilds().add(new IndexBuild(collection, name, "UNDECLARED", 0, null));
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                indexOps.dropIndex(name);
+                report.getBuilds().add(new IndexBuild(collection, name, "DROPPED", elapsedMillis(start), null));
+            } catch (Exception e) {
+                report.getBuilds().add(new IndexBuild(collection, name, "FAILED", elapsedMillis(start), e.getMessage()));
+            }
+        }
+    }
+
+    private boolean matches(IndexDefinition definition, IndexInfo current) {
+        String declaredKeys = definition.getIndexKeys().entrySet().stream()
+                .map(key -> key.getKey() + ":" + key.getValue())
+                .collect(Collectors.joining(","));
+        String currentKeys = current.getIndexFields().stream()
+                .map(this::keySpec)
+                .collect(Collectors.joining(","));
+        Document options = definition.getIndexOptions();
+        return declaredKeys.equals(currentKeys)
+                && options.getBoolean("unique", false) == current.isUnique()
+                && options.getBoolean("sparse", false) == current.isSparse()
+                && options.getBoolean("hidden", false) == current.isHidden()
+                && sameFilter(options.get("partialFilterExpression", Document.class), current.getPartialFilterExpression())
+                && sameExpiry(options.get("expireAfterSeconds"), current.getExpireAfter().orElse(null))
+                && sameCollation(options.get("collation", Document.class), current.getCollation().orElse(null));
+    }
+
+    // Both sides go through JSON so int/long differences in the stored filter don't count as a change
+    private boolean sameFilter(Document declared, String current) {
+        if (declared == null || current == null) {
+            return declared == null && current == null;
+        }
+        return Document.parse(declared.toJson()).equals(Document.parse(current));
+    }
+
+    private boolean sameExpiry(Object declaredSeconds, Duration current) {
+        if (declaredSeconds == null || current == null) {
+            return declaredSeconds == null && current == null;
+        }
+        return ((Number) declaredSeconds).longValue() == current.getSeconds();
+    }
+
+    // MongoDB stores the collation with every default filled in, so only the declared fields are compared
+    private boolean sameCollation(Document declared, Document current) {
+        if (declared == null || current == null) {
+            return declared == null && current == null;
+        }
+        return declared.entrySet().stream()
+                .allMatch(entry -> String.valueOf(entry.getValue()).equals(String.valueOf(current.get(entry.getKey()))));
+    }
+
+    private String keySpec(IndexField field) {
+        if (field.getDirection() == null) {
+            return field.getKey() + ":?";
+        }
+        return field.getKey() + ":" + (field.getDirection() == Sort.Direction.ASC ? 1 : -1);
+    }
+
+    private QueryPlan explain(String finder, Class<?> type, Query query) {
+        String collection = mongoTemplate.getCollectionName(type);
+        Document find = new Document("find", collection).append("filter", query.getQueryObject());
+        if (!query.getSortObject().isEmpty()) {
+            find.append("sort", query.getSortObject());
+        }
+        if (query.getLimit() > 0) {
+            find.append("limit", query.getLimit());
+        }
+
+        try {
+            Document explain = mongoTemplate.getDb().runCommand(
+                    new Document("explain", find).append("verbosity", "queryPlanner"));
+            Document planner = explain.get("queryPlanner", Document.class);
+            List<String> stages = new ArrayList<>();
+            Set<String> indexes = new HashSet<>();
+            collectStages(planner != null ? planner.get("winningPlan") : null, stages, indexes);
+            return new QueryPlan(finder, collection, String.join(" <- ", stages), String.join(",", indexes),
+                    stages.contains("COLLSCAN"), null);
+        } catch (Exception e) {
+            return new QueryPlan(finder, collection, null, null, false, e.getMessage());
+        }
+    }
+
+    // Walks the plan tree; handles both classic (inputStage/inputStages) and SBE (queryPlan) layouts
+    private void collectStages(Object node, List<String> stages, Set<String> indexes) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage != null) {
+                stages.add(stage.toString());
+            }
+            Object indexName = document.get("indexName");
+            if (indexName != null) {
+                indexes.add(indexName.toString());
+            }
+            for (Object value : document.values()) {
+                collectStages(value, stages, indexes);
+            }
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages, indexes));
+        }
+    }
+
+    private long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private void print(Report report) {
+        for (IndexBuild build : report.getBuilds()) {
+            if (build.getError() != null) {
+                System.err.println("ERROR index " + build.getCollection() + "." + build.getName() + ": " + build.getError());
+            } else if (!build.getStatus().equals("PRESENT")) {
+                System.out.println("INDEX: " + build.getCollection() + "." + build.getName() + " " + build.getStatus()
+                        + " in " + build.getDurationMillis() + " ms");
+            }
+        }
+        for (QueryPlan plan : report.getPlans()) {
+            if (plan.isCollectionScan()) {
+                System.out.println("WARN: JobRepository." + plan.getFinder() + " runs a COLLSCAN (" + plan.getStages() + ")");
+            }
+        }
+    }
+
+    public static class Report {
+        private final Instant startedAt = Instant.now();
+        private Instant completedAt;
+        private final List<IndexBuild> builds = new ArrayList<>();
+        private final List<QueryPlan> plans = new ArrayList<>();
+
+        public Instant getStartedAt() { return startedAt; }
+        public Instant getCompletedAt() { return completedAt; }
+        public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
+        public List<IndexBuild> getBuilds() { return builds; }
+        public List<QueryPlan> getPlans() { return plans; }
+    }
+
+    public static class IndexBuild {
+        private final String collection;
+        private final String name;
+        private final String status;
+        private final long durationMillis;
+        private final String error;
+
+        public IndexBuild(String collection, String name, String status, long durationMillis, String error) {
+            this.collection = collection;
+            this.name = name;
+            this.status = status;
+            this.durationMillis = durationMillis;
+            this.error = error;
+        }
+
+        public String getCollection() { return collection; }
+        public String getName() { return name; }
+        public String getStatus() { return status; }
+        public long getDurationMillis() { return durationMillis; }
+        public String getError() { return error; }
+    }
+
+    public static class QueryPlan {
+        private final String finder;
+        private final String collection;
+        private final String stages;
+        private final String indexes;
+        private final boolean collectionScan;
+        private final String error;
+
+        public QueryPlan(String finder, String collection, String stages, String indexes, boolean collectionScan, String error) {
+            this.finder = finder;
+            this.collection = collection;
+            this.stages = stages;
+            this.indexes = indexes;
+            this.collectionScan = collectionScan;
+            this.error = error;
+        }
+
+        public String getFinder() { return finder; }
+        public String getCollection() { return collection; }
+        public String getStages() { return stages; }
+        public String getIndexes() { return indexes; }
+        public boolean isCollectionScan() { return collectionScan; }
+        public String getError() { return error; }
+    }
+}
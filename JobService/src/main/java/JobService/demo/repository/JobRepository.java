@@ -1,19 +1,43 @@
 package JobService.demo.repository;
 
 import JobService.demo.model.Job;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface JobRepository extends MongoRepository<Job, String> {
     List<Job> findByHirerId(String hirerId);
+    Window<Job> findByHirerId(String hirerId, ScrollPosition position, Limit limit, Sort sort);
     List<Job> findByCompanyNameContainingIgnoreCase(String companyName);
     List<Job> findByJobTitleContainingIgnoreCase(String jobTitle);
-    
+
     List<Job> findByCompanyNameContainingIgnoreCaseOrJobTitleContainingIgnoreCase(String companyName, String jobTitle);
-    
+
     List<Job> findAllByOrderByPostedDateDesc();
     List<Job> findAllByOrderByPostedDateAsc();
     List<Job> findAllByOrderByExpectedSalaryDesc();
     List<Job> findAllByOrderByExpectedSalaryAsc();
     List<Job> findAllByOrderByCompanyNameAsc();
-}
\ No newline at end of file
+
+    Window<Job> findAllByOrderByPostedDateDesc(ScrollPosition position, Limit limit);
+    Window<Job> findAllByOrderByPostedDateAsc(ScrollPosition position, Limit limit);
+    Window<Job> findAllByOrderByExpectedSalaryDesc(ScrollPosition position, Limit limit);
+    Window<Job> findAllByOrderByExpectedSalaryAsc(ScrollPosition position, Limit limit);
+    Window<Job> findAllByOrderByCompanyNameAsc(ScrollPosition position, Limit limit);
+
+    Window<Job> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    Stream<Job> streamAllBy();
+    Stream<Job> streamByHirerId(String hirerId);
+
+    List<IdOnly> findByIdIn(Collection<String> ids);
+
+    interface IdOnly {
+        String getId();
+    }
+}
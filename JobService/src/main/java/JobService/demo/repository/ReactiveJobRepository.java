@@ -0,0 +1,54 @@
+package JobService.demo.repository;
+
+import JobService.demo.model.Job;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+// Reactive reads over JobRepository's cursors. A Flux pulls from the Mongo cursor only as far
+// as its subscriber has asked, so a slow reader holds an open cursor rather than a buffered
+// result set, and the cursor is closed on completion, error or cancel. The blocking cursor
+// calls run on a small fixed set of threads; request threads are not held while a result
+// streams out.
+@Component
+public class ReactiveJobRepository {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final Scheduler scheduler;
+
+    public ReactiveJobRepository(@Value("${jobs.reactive.threads:16}") int threads,
+                                 @Value("${jobs.reactive.max-queued:10000}") int maxQueued) {
+        this.scheduler = Schedulers.newBoundedElastic(threads, maxQueued, "job-reads", 60, true);
+    }
+
+    public Flux<Job> findAll() {
+        return fromCursor(() -> jobRepository.streamAllBy());
+    }
+
+    public Flux<Job> findByHirerId(String hirerId) {
+        return fromCursor(() -> jobRepository.streamByHirerId(hirerId));
+    }
+
+    public Mono<Job> findById(String id) {
+        return Mono.fromCallable(() -> jobRepository.findById(id).orElse(null)).subscribeOn(scheduler);
+    }
+
+    private Flux<Job> fromCursor(Callable<Stream<Job>> cursor) {
+        return Flux.using(cursor, Flux::fromStream, Stream::close).subscribeOn(scheduler);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+}
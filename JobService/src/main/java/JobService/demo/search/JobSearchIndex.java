@@ -0,0 +1,441 @@
+package JobService.demo.search;
+
+import JobService.demo.model.Job;
+import JobService.demo.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+// In-memory copy of the jobs collection with search structures built over it. Loaded after
+// startup, updated by JobService on every job write, and rebuilt periodically so writes made
+// by other JobService instances show up and deleted documents are compacted away.
+// Until the first load completes, callers fall back to the repository queries.
+@Component
+public class JobSearchIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int COMPANY_WEIGHT = 1;
+    private static final int SKILL_ID_BATCH_SIZE = 500;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private Segment segment = new Segment();
+    // Writes made while a rebuild is reading the collection; replayed onto the new segment (null = deleted)
+    private Map<String, Job> changesDuringRebuild;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread thread = new Thread(this::rebuild, "job-search-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(initialDelayString = "${jobs.search-index.refresh-interval-ms:300000}",
+            fixedDelayString = "${jobs.search-index.refresh-interval-ms:300000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Job job) {
+        resolveSkillIds(job);
+        lock.writeLock().lock();
+        try {
+            segment.add(job);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(job.getId(), job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(jobId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(jobId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Job> allJobs() {
+        lock.readLock().lock();
+        try {
+            return segment.inDocOrder(segment.live);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Company or title contains the keyword; title matches rank above company matches
+    public List<Job> searchByKeyword(String keyword) {
+        String query = TextIndex.normalize(keyword);
+        lock.readLock().lock();
+        try {
+            BitSet matches = segment.titles.matches(query, segment.live);
+            matches.or(segment.companies.matches(query, segment.live));
+            return segment.ranked(matches, doc -> TITLE_WEIGHT * segment.titles.score(doc, query)
+                    + COMPANY_WEIGHT * segment.companies.score(doc, query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Job> searchByTitle(String jobTitle) {
+        String query = TextIndex.normalize(jobTitle);
+        lock.readLock().lock();
+        try {
+            return segment.ranked(segment.titles.matches(query, segment.live), doc -> segment.titles.score(doc, query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Job> searchByCompany(String companyName) {
+        String query = TextIndex.normalize(companyName);
+        lock.readLock().lock();
+        try {
+            return segment.ranked(segment.companies.matches(query, segment.live), doc -> segment.companies.score(doc, query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // For each live job, how many of the given canonical skills (or their synonyms) it requires
+    public Map<Job, Integer> countSkillMatches(int[] canonicalSkillIds) {
+        List<int[]> groups = new ArrayList<>(canonicalSkillIds.length);
+        for (int id : canonicalSkillIds) {
+            groups.add(skillDictionary.group(id));
+        }
+        lock.readLock().lock();
+        try {
+            int[] counts = new int[segment.jobs.size()];
+            BitSet matched = new BitSet();
+            for (int[] group : groups) {
+                // A job listing a skill and one of its synonyms counts the skill once
+                BitSet docs = segment.skills.matching(group, segment.live);
+                for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+                    counts[doc]++;
+                }
+                matched.or(docs);
+            }
+            Map<Job, Integer> result = new HashMap<>(matched.cardinality() * 2);
+            for (int doc = matched.nextSetBit(0); doc >= 0; doc = matched.nextSetBit(doc + 1)) {
+                result.put(segment.jobs.get(doc), counts[doc]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Job> searchBySkill(String skill) {
+        int[] ids = skillDictionary.matching(skill);
+        lock.readLock().lock();
+        try {
+            return segment.inDocOrder(segment.skills.matching(ids, segment.live));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every given filter must hold; null filters are ignored
+    public List<Job> advancedSearch(String companyName, String jobTitle, List<String> skills, boolean matchAllSkills,
+                                    Double minSalary, Double maxSalary) {
+        List<int[]> skillQueries = new ArrayList<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                if (!SkillDictionary.normalize(skill).isEmpty()) {
+                    skillQueries.add(skillDictionary.matching(skill));
+                }
+            }
+        }
+        lock.readLock().lock();
+        try {
+            BitSet matches = segment.skills.matching(skillQueries, matchAllSkills, segment.live);
+            if (companyName != null) {
+                matches.and(segment.companies.matches(TextIndex.normalize(companyName), segment.live));
+            }
+            if (jobTitle != null) {
+                matches.and(segment.titles.matches(TextIndex.normalize(jobTitle), segment.live));
+            }
+            if (minSalary != null || maxSalary != null) {
+                matches.and(segment.salaries.range(
+                        minSalary != null ? minSalary : Double.NEGATIVE_INFINITY,
+                        maxSalary != null ? maxSalary : Double.POSITIVE_INFINITY));
+            }
+            return segment.inDocOrder(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Orders the given jobs by walking the matching sorted index, stopping after 'limit' jobs.
+    // Returns null when a job is not indexed (e.g. not loaded yet) so the caller can sort itself.
+    public List<Job> sort(List<Job> jobs, String sortBy, boolean ascending, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Integer, Job> byDoc = new HashMap<>(jobs.size() * 2);
+            BitSet candidates = new BitSet();
+            for (Job job : jobs) {
+                Integer doc = job.getId() != null ? segment.docById.get(job.getId()) : null;
+                if (doc == null) {
+                    return null;
+                }
+                byDoc.put(doc, job);
+                candidates.set(doc);
+            }
+
+            SortedIndex index;
+            switch (sortBy.toLowerCase()) {
+                case "salary":
+                    index = segment.salaries;
+                    break;
+                case "company":
+                    index = segment.companyOrder;
+                    break;
+                case "title":
+                    index = segment.titleOrder;
+                    break;
+                case "date":
+                    index = segment.postedDates;
+                    break;
+                default:
+                    index = segment.postedDates;
+                    ascending = false;
+            }
+
+            int wanted = Math.min(limit, byDoc.size());
+            if (wanted <= 0) {
+                return new ArrayList<>();
+            }
+            List<Job> result = new ArrayList<>(wanted);
+            index.scan(ascending, candidates, doc -> {
+                result.add(byDoc.get(doc));
+                return result.size() < wanted;
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            skillDictionary.reload();
+            Segment fresh = new Segment();
+            List<Job> missingSkillIds = new ArrayList<>();
+            fresh.beginBulkLoad();
+            try (Stream<Job> jobs = jobRepository.streamAllBy()) {
+                jobs.forEach(job -> {
+                    if (resolveSkillIds(job)) {
+                        missingSkillIds.add(job);
+                    }
+                    fresh.add(job);
+                });
+            }
+            fresh.finishBulkLoad();
+            storeSkillIds(missingSkillIds);
+
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild.forEach((jobId, job) -> {
+                    if (job == null) {
+                        fresh.remove(jobId);
+                    } else {
+                        fresh.add(job);
+                    }
+                });
+                segment = fresh;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            System.out.println("DEBUG: Job search index built with " + fresh.live.cardinality() + " jobs in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+            eventPublisher.publishEvent(new Rebuilt(fresh.live.cardinality()));
+        } catch (Exception e) {
+            System.err.println("ERROR building job search index: " + e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    // Fills in the skill IDs of jobs written before the dictionary existed; true if they changed
+    private boolean resolveSkillIds(Job job) {
+        int[] ids = job.getRequiredSkillIds();
+        int expected = job.getRequiredSkills() != null ? job.getRequiredSkills().size() : 0;
+        if (ids != null && ids.length == expected) {
+            return false;
+        }
+        job.setRequiredSkillIds(skillDictionary.internAll(job.getRequiredSkills()));
+        return true;
+    }
+
+    // Persists backfilled skill IDs so the next rebuild finds them on the documents
+    private void storeSkillIds(List<Job> jobs) {
+        for (int from = 0; from < jobs.size(); from += SKILL_ID_BATCH_SIZE) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Job.class);
+            for (Job job : jobs.subList(from, Math.min(jobs.size(), from + SKILL_ID_BATCH_SIZE))) {
+                bulk.updateOne(new Query(Criteria.where("_id").is(job.getId())),
+                        new Update().set("requiredSkillIds", job.getRequiredSkillIds()));
+            }
+            bulk.execute();
+        }
+        if (!jobs.isEmpty()) {
+            System.out.println("DEBUG: Stored skill IDs on " + jobs.size() + " jobs");
+        }
+    }
+
+    // Published after each successful (re)build, on the thread that built it
+    public static class Rebuilt {
+        private final int jobs;
+
+        public Rebuilt(int jobs) {
+            this.jobs = jobs;
+        }
+
+        public int getJobs() { return jobs; }
+    }
+
+    private static final class Segment {
+        private final List<Job> jobs = new ArrayList<>();
+        private final Map<String, Integer> docById = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private final TextIndex titles = new TextIndex();
+        private final TextIndex companies = new TextIndex();
+        private final SkillIndex skills = new SkillIndex();
+        private final SortedIndex.OfDouble salaries = new SortedIndex.OfDouble();
+        private final SortedIndex.OfDateTime postedDates = new SortedIndex.OfDateTime();
+        private final SortedIndex.OfText companyOrder = new SortedIndex.OfText();
+        private final SortedIndex.OfText titleOrder = new SortedIndex.OfText();
+
+        void beginBulkLoad() {
+            salaries.beginBulkLoad();
+            postedDates.beginBulkLoad();
+            companyOrder.beginBulkLoad();
+            titleOrder.beginBulkLoad();
+        }
+
+        void finishBulkLoad() {
+            salaries.finishBulkLoad();
+            postedDates.finishBulkLoad();
+            companyOrder.finishBulkLoad();
+            titleOrder.finishBulkLoad();
+        }
+
+        // An update adds a new document and retires the old one
+        void add(Job job) {
+            remove(job.getId());
+            int doc = jobs.size();
+            jobs.add(job);
+            docById.put(job.getId(), doc);
+            live.set(doc);
+            titles.add(doc, job.getJobTitle());
+            companies.add(doc, job.getCompanyName());
+            skills.add(doc, job.getRequiredSkillIds());
+            salaries.add(doc, job.getExpectedSalary());
+            postedDates.add(doc, job.getPostedDate());
+            companyOrder.add(doc, job.getCompanyName());
+            titleOrder.add(doc, job.getJobTitle());
+        }
+
+        void remove(String jobId) {
+            Integer doc = docById.remove(jobId);
+            if (doc != null) {
+                live.clear(doc);
+                jobs.set(doc, null);
+            }
+        }
+
+        List<Job> inDocOrder(BitSet docs) {
+            List<Job> result = new ArrayList<>(docs.cardinality());
+            for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+                result.add(jobs.get(doc));
+            }
+            return result;
+        }
+
+        // Highest score first, newest first among equal scores
+        List<Job> ranked(BitSet docs, IntUnaryOperator scorer) {
+            List<int[]> scored = new ArrayList<>(docs.cardinality());
+            for (int doc = docs.nextSetBit(0); doc >= 0; doc = docs.nextSetBit(doc + 1)) {
+                scored.add(new int[] { doc, scorer.applyAsInt(doc) });
+            }
+            Comparator<int[]> byScore = Comparator.comparingInt(entry -> -entry[1]);
+            scored.sort(byScore.thenComparing(entry -> jobs.get(entry[0]).getPostedDate(),
+                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())));
+
+            List<Job> result = new ArrayList<>(scored.size());
+            scored.forEach(entry -> result.add(jobs.get(entry[0])));
+            return result;
+        }
+    }
+}
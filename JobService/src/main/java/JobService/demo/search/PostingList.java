@@ -0,0 +1,75 @@
+package JobService.demo.search;
+
+import java.util.Arrays;
+
+// Sorted list of document numbers. Documents are numbered in insertion order, so appends keep
+// the list sorted; deleted documents stay in the list until the next rebuild and are filtered by the caller.
+final class PostingList {
+
+    private int[] docs = new int[4];
+    private int size;
+
+    void add(int doc) {
+        // A document is added once even if it contributes the same term several times
+        if (size > 0 && docs[size - 1] == doc) {
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        docs[size++] = doc;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int i) {
+        return docs[i];
+    }
+
+    // Intersects the lists smallest first so the work is bounded by the rarest term
+    static int[] intersect(PostingList[] lists) {
+        if (lists.length == 0) {
+            return new int[0];
+        }
+        PostingList[] ordered = lists.clone();
+        Arrays.sort(ordered, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = Arrays.copyOf(ordered[0].docs, ordered[0].size);
+        int length = result.length;
+        for (int l = 1; l < ordered.length && length > 0; l++) {
+            PostingList other = ordered[l];
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < length; i++) {
+                int doc = result[i];
+                j = advance(other, j, doc);
+                if (j < other.size && other.docs[j] == doc) {
+                    result[kept++] = doc;
+                }
+            }
+            length = kept;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    // Galloping search for the first position at or after 'from' whose doc is >= target
+    private static int advance(PostingList list, int from, int target) {
+        int bound = 1;
+        while (from + bound < list.size && list.docs[from + bound] < target) {
+            bound <<= 1;
+        }
+        int low = from + (bound >> 1);
+        int high = Math.min(from + bound, list.size);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.docs[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
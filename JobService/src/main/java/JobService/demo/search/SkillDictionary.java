@@ -0,0 +1,365 @@
+package JobService.demo.search;
+
+import JobService.demo.model.SkillEntry;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+// Interns every normalized skill spelling ("java", " Java ", "JAVA" -> "java") to a small int and
+// groups synonyms under one canonical skill. Documents store the ID of the spelling they use and
+// synonyms are resolved when matching, so adding or removing a synonym changes results without
+// rewriting any document. IDs come from a counter document, so every JobService instance hands
+// out the same ID for the same name; ApplicationService reads the entries from /internal/skills.
+@Component
+public class SkillDictionary {
+
+    private static final String COUNTERS_COLLECTION = "counters";
+    private static final String SEQUENCE_ID = "skills";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+    private volatile boolean loaded;
+
+    // Trimmed, lower-cased, inner whitespace collapsed; "" for null
+    public static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(skill.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // Re-reads every entry, picking up names and synonyms added by other instances
+    public void reload() {
+        lock.lock();
+        try {
+            snapshot = new Snapshot(mongoTemplate.findAll(SkillEntry.class));
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ID of the spelling, created on first use; 0 for a blank skill
+    public int intern(String skill) {
+        String name = normalize(skill);
+        if (name.isEmpty()) {
+            return 0;
+        }
+        Integer id = current().ids.get(name);
+        return id != null ? id : internNames(List.of(name)).ids.get(name);
+    }
+
+    // One ID per skill, in the same positions (0 for blank skills)
+    public int[] internAll(List<String> skills) {
+        if (skills == null) {
+            return new int[0];
+        }
+        Snapshot interned = internNames(skills);
+        int[] ids = new int[skills.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = interned.ids.getOrDefault(normalize(skills.get(i)), 0);
+        }
+        return ids;
+    }
+
+    // The entries for the given names, created where missing
+    public List<SkillEntry> internEntries(List<String> skills) {
+        List<SkillEntry> entries = new ArrayList<>();
+        if (skills != null) {
+            Snapshot interned = internNames(skills);
+            for (String skill : skills) {
+                Integer id = interned.ids.get(normalize(skill));
+                if (id != null) {
+                    entries.add(interned.entry(id));
+                }
+            }
+        }
+        return entries;
+    }
+
+    // ID of the spelling without creating it; 0 when unknown
+    public int idOf(String skill) {
+        return current().ids.getOrDefault(normalize(skill), 0);
+    }
+
+    // IDs this instance has not loaded yet resolve to themselves
+    public int canonical(int id) {
+        return current().canonical(id);
+    }
+
+    // Distinct canonical IDs of the given IDs, ascending; 0s are dropped
+    public int[] canonicalSet(int[] ids) {
+        if (ids == null) {
+            return new int[0];
+        }
+        Snapshot current = current();
+        BitSet canonical = new BitSet();
+        for (int id : ids) {
+            if (id > 0) {
+                canonical.set(current.canonical(id));
+            }
+        }
+        return canonical.stream().toArray();
+    }
+
+    // Every ID resolving to this canonical skill, the skill itself included
+    public int[] group(int canonicalId) {
+        int[] members = current().groups.get(canonicalId);
+        return members != null ? members : new int[] { canonicalId };
+    }
+
+    // IDs of every skill with a spelling or synonym containing the query
+    public int[] matching(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        Snapshot current = current();
+        BitSet result = new BitSet();
+        current.ids.forEach((name, id) -> {
+            if (name.contains(normalized)) {
+                for (int member : current.groups.get(current.canonical(id))) {
+                    result.set(member);
+                }
+            }
+        });
+        return result.stream().toArray();
+    }
+
+    public List<SkillEntry> entries() {
+        return new ArrayList<>(current().entries);
+    }
+
+    // Canonical skills with their synonyms, by name
+    public List<Skill> skills() {
+        Snapshot current = current();
+        List<Skill> skills = new ArrayList<>();
+        current.groups.keySet().forEach(id -> skills.add(current.describe(id)));
+        skills.sort(Comparator.comparing(Skill::getName));
+        return skills;
+    }
+
+    // The synonym, and anything that was a synonym of it, now resolve to the skill
+    public Skill addSynonym(String skill, String synonym) {
+        String skillName = normalize(skill);
+        String synonymName = normalize(synonym);
+        if (skillName.isEmpty() || synonymName.isEmpty()) {
+            throw new IllegalArgumentException("Skill and synonym are required");
+        }
+        if (skillName.equals(synonymName)) {
+            throw new IllegalArgumentException("A skill cannot be a synonym of itself");
+        }
+
+        lock.lock();
+        try {
+            reload();
+            int target = canonical(intern(skillName));
+            int synonymId = intern(synonymName);
+            if (target == synonymId) {
+                throw new IllegalArgumentException("'" + skillName + "' is already a synonym of '" + synonymName + "'");
+            }
+            Query members = new Query(new Criteria().orOperator(
+                    Criteria.where("_id").is(synonymId), Criteria.where("canonicalId").is(synonymId)));
+            mongoTemplate.updateMulti(members, new Update().set("canonicalId", target), SkillEntry.class);
+            reload();
+            System.out.println("DEBUG: '" + synonymName + "' is now a synonym of '" + snapshot.entry(target).getName() + "'");
+            return snapshot.describe(target);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The synonym becomes a skill of its own again
+    public Skill removeSynonym(String synonym) {
+        String synonymName = normalize(synonym);
+        lock.lock();
+        try {
+            reload();
+            Integer id = snapshot.ids.get(synonymName);
+            if (id == null) {
+                throw new IllegalArgumentException("Unknown skill: " + synonymName);
+            }
+            if (snapshot.canonical(id) == id) {
+                throw new IllegalArgumentException("'" + synonymName + "' is not a synonym");
+            }
+            mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(id)), new Update().set("canonicalId", id), SkillEntry.class);
+            reload();
+            System.out.println("DEBUG: '" + synonymName + "' is no longer a synonym");
+            return snapshot.describe(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        if (!loaded) {
+            try {
+                reload();
+            } catch (Exception e) {
+                System.err.println("ERROR loading skill dictionary: " + e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+
+    // Creates every missing name, then swaps in one snapshot holding all of them; returns a
+    // snapshot that knows every non-blank name given
+    private Snapshot internNames(Collection<String> skills) {
+        Snapshot known = current();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String skill : skills) {
+            String name = normalize(skill);
+            if (!name.isEmpty() && !known.ids.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return known;
+        }
+        lock.lock();
+        try {
+            List<SkillEntry> created = new ArrayList<>();
+            for (String name : missing) {
+                if (!snapshot.ids.containsKey(name)) {
+                    created.add(insert(name));
+                }
+            }
+            if (!created.isEmpty()) {
+                snapshot = snapshot.with(created);
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SkillEntry insert(String name) {
+        Document counter = mongoTemplate.findAndModify(new Query(Criteria.where("_id").is(SEQUENCE_ID)),
+                new Update().inc("seq", 1), FindAndModifyOptions.options().returnNew(true).upsert(true),
+                Document.class, COUNTERS_COLLECTION);
+        SkillEntry entry = new SkillEntry(((Number) counter.get("seq")).intValue(), name);
+        try {
+            return mongoTemplate.insert(entry);
+        } catch (DuplicateKeyException e) {
+            // Another instance interned the name first; its ID wins and ours is left unused
+            SkillEntry existing = mongoTemplate.findOne(new Query(Criteria.where("name").is(name)), SkillEntry.class);
+            if (existing == null) {
+                throw e;
+            }
+            return existing;
+        }
+    }
+
+    // Immutable view of the dictionary; replaced as a whole on every change
+    private static final class Snapshot {
+        private final List<SkillEntry> entries;
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final SkillEntry[] byId;
+        private final int[] canonical;
+        private final Map<Integer, int[]> groups = new HashMap<>();
+
+        Snapshot(Collection<SkillEntry> entries) {
+            this.entries = List.copyOf(entries);
+            int maxId = 0;
+            for (SkillEntry entry : entries) {
+                maxId = Math.max(maxId, entry.getId());
+            }
+            byId = new SkillEntry[maxId + 1];
+            canonical = new int[maxId + 1];
+            for (SkillEntry entry : entries) {
+                byId[entry.getId()] = entry;
+                ids.put(entry.getName(), entry.getId());
+            }
+            Map<Integer, List<Integer>> members = new HashMap<>();
+            for (SkillEntry entry : entries) {
+                canonical[entry.getId()] = resolve(entry);
+                members.computeIfAbsent(canonical[entry.getId()], key -> new ArrayList<>()).add(entry.getId());
+            }
+            members.forEach((id, list) -> {
+                int[] group = list.stream().mapToInt(Integer::intValue).toArray();
+                Arrays.sort(group);
+                groups.put(id, group);
+            });
+        }
+
+        Snapshot with(Collection<SkillEntry> added) {
+            List<SkillEntry> next = new ArrayList<>(entries.size() + added.size());
+            next.addAll(entries);
+            next.addAll(added);
+            return new Snapshot(next);
+        }
+
+        int canonical(int id) {
+            return id > 0 && id < canonical.length && byId[id] != null ? canonical[id] : id;
+        }
+
+        SkillEntry entry(int id) {
+            return id > 0 && id < byId.length ? byId[id] : null;
+        }
+
+        // Follows synonym links to the end; a dangling or cyclic link leaves the entry on its own
+        private int resolve(SkillEntry entry) {
+            SkillEntry current = entry;
+            for (int hops = 0; hops < byId.length && current.getCanonicalId() != current.getId(); hops++) {
+                SkillEntry next = entry(current.getCanonicalId());
+                if (next == null) {
+                    return entry.getId();
+                }
+                current = next;
+            }
+            return current.getCanonicalId() == current.getId() ? current.getId() : entry.getId();
+        }
+
+        Skill describe(int canonicalId) {
+            List<String> synonyms = new ArrayList<>();
+            for (int member : groups.getOrDefault(canonicalId, new int[] { canonicalId })) {
+                if (member != canonicalId && entry(member) != null) {
+                    synonyms.add(entry(member).getName());
+                }
+            }
+            synonyms.sort(null);
+            SkillEntry entry = entry(canonicalId);
+            return new Skill(canonicalId, entry != null ? entry.getName() : null, synonyms);
+        }
+    }
+
+    public static class Skill {
+        private final int id;
+        private final String name;
+        private final List<String> synonyms;
+
+        public Skill(int id, String name, List<String> synonyms) {
+            this.id = id;
+            this.name = name;
+            this.synonyms = synonyms;
+        }
+
+        public int getId() { return id; }
+        public String getName() { return name; }
+        public List<String> getSynonyms() { return synonyms; }
+    }
+}
@@ -0,0 +1,63 @@
+package JobService.demo.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// Posting list per skill dictionary ID. Queries arrive as ID sets already expanded by
+// SkillDictionary (substring match over the vocabulary plus synonyms), so matching a job costs
+// an array lookup and a bitset union, with no string handling per job or per request.
+final class SkillIndex {
+
+    private PostingList[] byId = new PostingList[64];
+
+    void add(int doc, int[] skillIds) {
+        if (skillIds == null) {
+            return;
+        }
+        for (int id : skillIds) {
+            if (id <= 0) {
+                continue;
+            }
+            if (id >= byId.length) {
+                byId = Arrays.copyOf(byId, Math.max(id + 1, byId.length * 2));
+            }
+            if (byId[id] == null) {
+                byId[id] = new PostingList();
+            }
+            byId[id].add(doc);
+        }
+    }
+
+    // Live documents listing at least one of the IDs
+    BitSet matching(int[] ids, BitSet live) {
+        BitSet result = new BitSet();
+        for (int id : ids) {
+            PostingList postings = id > 0 && id < byId.length ? byId[id] : null;
+            if (postings == null) {
+                continue;
+            }
+            for (int i = 0; i < postings.size(); i++) {
+                result.set(postings.get(i));
+            }
+        }
+        result.and(live);
+        return result;
+    }
+
+    // Union (any skill) or intersection (every skill) of the per-skill matches
+    BitSet matching(List<int[]> queries, boolean matchAll, BitSet live) {
+        BitSet result = null;
+        for (int[] ids : queries) {
+            BitSet matches = matching(ids, live);
+            if (result == null) {
+                result = matches;
+            } else if (matchAll) {
+                result.and(matches);
+            } else {
+                result.or(matches);
+            }
+        }
+        return result != null ? result : (BitSet) live.clone();
+    }
+}
@@ -0,0 +1,239 @@
+package JobService.demo.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.function.IntPredicate;
+
+// Document numbers kept ordered by one field. Inserts binary-search their slot and shift the
+// tail, so the order is maintained per write instead of re-sorted per request. A full load
+// appends instead and sorts once at the end, since shifting per document would be quadratic.
+// Documents without a value sort lowest, matching the null handling of JobService.sortJobs.
+// Equal keys are ordered by doc number, which is the order documents were added in.
+abstract class SortedIndex {
+
+    private int[] order = new int[16];
+    private int size;
+    private final PostingList missing = new PostingList();
+    private boolean bulkLoading;
+
+    abstract boolean hasKey(int doc);
+
+    abstract int compareKeys(int a, int b);
+
+    // Until finishBulkLoad, inserts append; documents must arrive in ascending doc order
+    final void beginBulkLoad() {
+        bulkLoading = true;
+    }
+
+    // One sort for everything appended; equal keys stay in doc (insertion) order
+    final void finishBulkLoad() {
+        bulkLoading = false;
+        Integer[] docs = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            docs[i] = order[i];
+        }
+        Arrays.sort(docs, this::compareDocs);
+        for (int i = 0; i < size; i++) {
+            order[i] = docs[i];
+        }
+    }
+
+    // Call after the document's key has been stored; equal keys keep insertion order
+    final void insert(int doc) {
+        if (!hasKey(doc)) {
+            missing.add(doc);
+            return;
+        }
+        if (bulkLoading) {
+            if (size == order.length) {
+                order = Arrays.copyOf(order, size * 2);
+            }
+            order[size++] = doc;
+            return;
+        }
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareKeys(order[mid], doc) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size * 2);
+        }
+        System.arraycopy(order, low, order, low + 1, size - low);
+        order[low] = doc;
+        size++;
+    }
+
+    // Visits the documents in the filter in key order until the visitor returns false. Every
+    // document in the filter must have been added. A filter much smaller than the index is sorted
+    // directly (m log m) rather than found by walking the whole order.
+    final void scan(boolean ascending, BitSet filter, IntPredicate visitor) {
+        int candidates = filter.cardinality();
+        if ((long) candidates * (32 - Integer.numberOfLeadingZeros(candidates)) < size + missing.size()) {
+            scanSorted(ascending, filter, candidates, visitor);
+            return;
+        }
+        if (ascending) {
+            for (int i = 0; i < missing.size(); i++) {
+                if (filter.get(missing.get(i)) && !visitor.test(missing.get(i))) {
+                    return;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                if (filter.get(order[i]) && !visitor.test(order[i])) {
+                    return;
+                }
+            }
+        } else {
+            for (int i = size - 1; i >= 0; i--) {
+                if (filter.get(order[i]) && !visitor.test(order[i])) {
+                    return;
+                }
+            }
+            for (int i = missing.size() - 1; i >= 0; i--) {
+                if (filter.get(missing.get(i)) && !visitor.test(missing.get(i))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Same order as walking the index: missing values first, then by key, then by doc number
+    private void scanSorted(boolean ascending, BitSet filter, int candidates, IntPredicate visitor) {
+        Integer[] docs = new Integer[candidates];
+        int count = 0;
+        for (int doc = filter.nextSetBit(0); doc >= 0; doc = filter.nextSetBit(doc + 1)) {
+            docs[count++] = doc;
+        }
+        Comparator<Integer> order = this::compareDocs;
+        Arrays.sort(docs, ascending ? order : order.reversed());
+        for (int doc : docs) {
+            if (!visitor.test(doc)) {
+                return;
+            }
+        }
+    }
+
+    private int compareDocs(int a, int b) {
+        boolean aHasKey = hasKey(a);
+        if (aHasKey != hasKey(b)) {
+            return aHasKey ? 1 : -1;
+        }
+        int byKey = aHasKey ? compareKeys(a, b) : 0;
+        return byKey != 0 ? byKey : Integer.compare(a, b);
+    }
+
+    final int size() {
+        return size;
+    }
+
+    final int docAt(int position) {
+        return order[position];
+    }
+
+    static final class OfDouble extends SortedIndex {
+        private double[] values = new double[16];
+        private final BitSet present = new BitSet();
+
+        void add(int doc, Double value) {
+            if (value != null) {
+                if (doc >= values.length) {
+                    values = Arrays.copyOf(values, Math.max(doc + 1, values.length * 2));
+                }
+                values[doc] = value;
+                present.set(doc);
+            }
+            insert(doc);
+        }
+
+        @Override
+        boolean hasKey(int doc) {
+            return present.get(doc);
+        }
+
+        @Override
+        int compareKeys(int a, int b) {
+            return Double.compare(values[a], values[b]);
+        }
+
+        // Documents with min <= value <= max; documents without a value never match
+        BitSet range(double min, double max) {
+            int from = firstAtLeast(min);
+            BitSet result = new BitSet();
+            for (int i = from; i < size() && values[docAt(i)] <= max; i++) {
+                result.set(docAt(i));
+            }
+            return result;
+        }
+
+        private int firstAtLeast(double min) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[docAt(mid)] < min) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    static final class OfDateTime extends SortedIndex {
+        private long[] values = new long[16];
+        private final BitSet present = new BitSet();
+
+        void add(int doc, LocalDateTime value) {
+            if (value != null) {
+                if (doc >= values.length) {
+                    values = Arrays.copyOf(values, Math.max(doc + 1, values.length * 2));
+                }
+                values[doc] = value.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + value.getNano();
+                present.set(doc);
+            }
+            insert(doc);
+        }
+
+        @Override
+        boolean hasKey(int doc) {
+            return present.get(doc);
+        }
+
+        @Override
+        int compareKeys(int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+    }
+
+    static final class OfText extends SortedIndex {
+        private String[] values = new String[16];
+
+        void add(int doc, String value) {
+            if (doc >= values.length) {
+                values = Arrays.copyOf(values, Math.max(doc + 1, values.length * 2));
+            }
+            values[doc] = value;
+            insert(doc);
+        }
+
+        @Override
+        boolean hasKey(int doc) {
+            return values[doc] != null;
+        }
+
+        @Override
+        int compareKeys(int a, int b) {
+            return String.CASE_INSENSITIVE_ORDER.compare(values[a], values[b]);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package JobService.demo.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Trigram index over one text field. A query of three or more characters is answered by
+// intersecting the posting lists of its trigrams and confirming the substring on the survivors,
+// which keeps the case-insensitive "contains" semantics of the Mongo queries it replaces.
+final class TextIndex {
+
+    static final int SCORE_EXACT = 3;
+    static final int SCORE_WORD_PREFIX = 2;
+    static final int SCORE_SUBSTRING = 1;
+
+    private static final int GRAM = 3;
+
+    private final List<String> values = new ArrayList<>();
+    private final Map<Long, PostingList> grams = new HashMap<>();
+
+    static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    void add(int doc, String value) {
+        String normalized = normalize(value);
+        while (values.size() <= doc) {
+            values.add(null);
+        }
+        values.set(doc, normalized);
+        if (normalized == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.computeIfAbsent(gram(normalized, i), key -> new PostingList()).add(doc);
+        }
+    }
+
+    // Documents whose value contains the normalized query, filtered to live documents
+    BitSet matches(String query, BitSet live) {
+        BitSet result = new BitSet();
+        if (query.length() < GRAM) {
+            // Too short for a trigram; scanning the in-memory values is still cheap
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                String value = values.get(doc);
+                if (value != null && value.contains(query)) {
+                    result.set(doc);
+                }
+            }
+            return result;
+        }
+
+        PostingList[] lists = new PostingList[query.length() - GRAM + 1];
+        for (int i = 0; i < lists.length; i++) {
+            PostingList list = grams.get(gram(query, i));
+            if (list == null) {
+                return result;
+            }
+            lists[i] = list;
+        }
+        for (int doc : PostingList.intersect(lists)) {
+            if (live.get(doc) && values.get(doc).contains(query)) {
+                result.set(doc);
+            }
+        }
+        return result;
+    }
+
+    // Exact value beats a match at the start of a word, which beats a match inside a word
+    int score(int doc, String query) {
+        String value = values.get(doc);
+        if (value == null) {
+            return 0;
+        }
+        if (value.equals(query)) {
+            return SCORE_EXACT;
+        }
+        for (int from = value.indexOf(query); from >= 0; from = value.indexOf(query, from + 1)) {
+            if (from == 0 || !Character.isLetterOrDigit(value.charAt(from - 1))) {
+                return SCORE_WORD_PREFIX;
+            }
+        }
+        return value.contains(query) ? SCORE_SUBSTRING : 0;
+    }
+
+    private static long gram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+}
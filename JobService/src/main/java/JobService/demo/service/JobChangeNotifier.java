@@ -0,0 +1,94 @@
+package JobService.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Tells services that cache job lookups to drop a job after it is removed, and gateways that
+// cache job listings to purge them after any job write.
+// Best effort: a missed notification is bounded by the subscribers' cache TTL.
+@Component
+public class JobChangeNotifier {
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Value("${jobs.change-subscribers:ApplicationService}")
+    private List<String> subscribers;
+
+    @Value("${jobs.listing-subscribers:Gateway}")
+    private List<String> listingSubscribers;
+
+    private final RestTemplate restTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-change-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobChangeNotifier(RestTemplateBuilder restTemplateBuilder) {
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    public void jobDeleted(String jobId) {
+        executor.execute(() -> notifySubscribers(jobId));
+    }
+
+    // Any create, update, delete or synonym change can alter every listing page
+    public void jobsChanged() {
+        executor.execute(this::purgeListings);
+    }
+
+    private void notifySubscribers(String jobId) {
+        for (String subscriber : subscribers) {
+            // Every instance keeps its own cache, so each one must be told
+            for (ServiceInstance instance : instancesOf(subscriber)) {
+                try {
+                    restTemplate.delete(instance.getUri() + "/internal/cache/jobs/{id}", jobId);
+                } catch (Exception e) {
+                    System.err.println("ERROR invalidating job " + jobId + " on " + instance.getUri() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void purgeListings() {
+        for (String subscriber : listingSubscribers) {
+            for (ServiceInstance instance : instancesOf(subscriber)) {
+                try {
+                    restTemplate.postForLocation(instance.getUri() + "/internal/cache/jobs/purge", null);
+                } catch (Exception e) {
+                    System.err.println("ERROR purging job listings on " + instance.getUri() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<ServiceInstance> instancesOf(String subscriber) {
+        try {
+            return discoveryClient.getInstances(subscriber);
+        } catch (Exception e) {
+            System.err.println("ERROR resolving instances of " + subscriber + ": " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,281 @@
+package JobService.demo.service;
+
+import JobService.demo.model.Job;
+import JobService.demo.search.JobSearchIndex;
+import JobService.demo.search.SkillDictionary;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps a precomputed top-K job list per job seeker, matched on the skills the seeker has
+// listed on past applications. Seeker skills are loaded from ApplicationService and pushed
+// by it on every new application; a new job is offered only to the seekers sharing one of
+// its skills. Lists are recomputed from the skill posting lists whenever the search index
+// is rebuilt, and lazily after a job in them is removed or the skill synonyms change.
+// Skills are held as dictionary IDs of the spellings the seeker used; synonyms are resolved
+// when matching, so a synonym change only needs the lists recomputed.
+@Component
+public class JobRecommender {
+
+    private static final String SEEKER_SKILLS_URL = "http://ApplicationService/internal/seekers/skills";
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${recommendations.size:50}")
+    private int listSize;
+
+    @Value("${recommendations.seeker-reload-interval-ms:1800000}")
+    private long seekerReloadIntervalMillis;
+
+    private final Map<String, Seeker> seekers = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> seekersBySkill = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long seekersLoadedAt;
+
+    public boolean isReady() {
+        return jobSearchIndex.isReady() && seekersLoadedAt > 0;
+    }
+
+    public List<Recommendation> recommend(String jobSeekerId, int k) {
+        Seeker seeker = seekers.get(jobSeekerId);
+        if (seeker == null) {
+            return List.of();
+        }
+        List<Recommendation> top = seeker.top;
+        if (seeker.stale) {
+            lock.lock();
+            try {
+                recompute(seeker);
+                top = seeker.top;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return top.subList(0, Math.min(k, top.size()));
+    }
+
+    public void skillsAdded(String jobSeekerId, Collection<String> skills) {
+        lock.lock();
+        try {
+            Seeker seeker = seekers.computeIfAbsent(jobSeekerId, Seeker::new);
+            if (addSkills(seeker, skills) && jobSearchIndex.isReady()) {
+                recompute(seeker);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Offers a new or updated job to every seeker who shares at least one of its skills
+    public void jobPosted(Job job) {
+        int[] jobSkills = skillDictionary.canonicalSet(job.getRequiredSkillIds());
+        lock.lock();
+        try {
+            Set<String> candidates = new HashSet<>();
+            for (int skill : jobSkills) {
+                for (int spelling : skillDictionary.group(skill)) {
+                    candidates.addAll(seekersBySkill.getOrDefault(spelling, Set.of()));
+                }
+            }
+            for (String jobSeekerId : candidates) {
+                Seeker seeker = seekers.get(jobSeekerId);
+                int matched = countShared(skillDictionary.canonicalSet(seeker.skillIds()), jobSkills);
+                offer(seeker, new Recommendation(job, matched, jobSkills.length));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Removes the job from the lists holding it; those lists refill on their next read
+    public void jobRemoved(String jobId) {
+        for (Seeker seeker : seekers.values()) {
+            for (Recommendation recommendation : seeker.top) {
+                if (recommendation.job.getId().equals(jobId)) {
+                    seeker.stale = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    // Synonyms decide which skills count as shared; every list is refilled on its next read
+    public void synonymsChanged() {
+        seekers.values().forEach(seeker -> seeker.stale = true);
+    }
+
+    @EventListener
+    public void onSearchIndexRebuilt(JobSearchIndex.Rebuilt event) {
+        if (System.currentTimeMillis() - seekersLoadedAt >= seekerReloadIntervalMillis) {
+            loadSeekers();
+        }
+        long start = System.nanoTime();
+        // One seeker at a time so job writes are not held up behind the whole pass
+        for (Seeker seeker : seekers.values()) {
+            lock.lock();
+            try {
+                recompute(seeker);
+            } finally {
+                lock.unlock();
+            }
+        }
+        System.out.println("DEBUG: Recomputed job recommendations for " + seekers.size() + " seekers in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    // Streams one {"jobSeekerId", "skills"} line per seeker so the full set is never buffered
+    private void loadSeekers() {
+        try {
+            Map<String, Set<String>> loaded = restTemplate.execute(SEEKER_SKILLS_URL, HttpMethod.GET, null, response -> {
+                Map<String, Set<String>> result = new HashMap<>();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        JsonNode node = objectMapper.readTree(line);
+                        Set<String> skills = new HashSet<>();
+                        node.path("skills").forEach(skill -> skills.add(skill.asText()));
+                        result.put(node.path("jobSeekerId").asText(), skills);
+                    }
+                }
+                return result;
+            });
+
+            lock.lock();
+            try {
+                loaded.forEach((jobSeekerId, skills) -> addSkills(seekers.computeIfAbsent(jobSeekerId, Seeker::new), skills));
+            } finally {
+                lock.unlock();
+            }
+            seekersLoadedAt = System.currentTimeMillis();
+            System.out.println("DEBUG: Loaded skills of " + loaded.size() + " job seekers");
+        } catch (Exception e) {
+            System.err.println("ERROR loading job seeker skills: " + e.getMessage());
+        }
+    }
+
+    private boolean addSkills(Seeker seeker, Collection<String> skills) {
+        boolean changed = false;
+        for (int id : skillDictionary.internAll(new ArrayList<>(skills))) {
+            if (id > 0 && seeker.skills.add(id)) {
+                seekersBySkill.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(seeker.id);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void recompute(Seeker seeker) {
+        PriorityQueue<Recommendation> top = new PriorityQueue<>(listSize + 1, Recommendation.BEST_FIRST.reversed());
+        jobSearchIndex.countSkillMatches(skillDictionary.canonicalSet(seeker.skillIds())).forEach((job, matched) -> {
+            top.add(new Recommendation(job, matched, skillDictionary.canonicalSet(job.getRequiredSkillIds()).length));
+            if (top.size() > listSize) {
+                top.poll();
+            }
+        });
+        List<Recommendation> ranked = new ArrayList<>(top);
+        ranked.sort(Recommendation.BEST_FIRST);
+        seeker.top = List.copyOf(ranked);
+        seeker.stale = false;
+    }
+
+    private void offer(Seeker seeker, Recommendation candidate) {
+        List<Recommendation> next = new ArrayList<>(seeker.top.size() + 1);
+        for (Recommendation recommendation : seeker.top) {
+            if (!recommendation.job.getId().equals(candidate.job.getId())) {
+                next.add(recommendation);
+            }
+        }
+        if (candidate.matchedSkills > 0) {
+            next.add(candidate);
+        }
+        next.sort(Recommendation.BEST_FIRST);
+        seeker.top = List.copyOf(next.subList(0, Math.min(listSize, next.size())));
+    }
+
+    // Size of the intersection of two ascending ID arrays
+    private static int countShared(int[] a, int[] b) {
+        int shared = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private static final class Seeker {
+        private final String id;
+        private final Set<Integer> skills = ConcurrentHashMap.newKeySet();
+        private volatile List<Recommendation> top = List.of();
+        private volatile boolean stale;
+
+        Seeker(String id) {
+            this.id = id;
+        }
+
+        int[] skillIds() {
+            return skills.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public static class Recommendation {
+        // More shared skills first, then the larger share of the job's requirements, then newest
+        static final Comparator<Recommendation> BEST_FIRST = Comparator
+                .comparingInt((Recommendation r) -> -r.matchedSkills)
+                .thenComparingDouble(r -> -r.coverage)
+                .thenComparing(r -> r.job.getPostedDate(), Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+
+        private final Job job;
+        private final int matchedSkills;
+        private final double coverage;
+
+        public Recommendation(Job job, int matchedSkills, int requiredSkills) {
+            this.job = job;
+            this.matchedSkills = matchedSkills;
+            this.coverage = requiredSkills == 0 ? 0 : (double) matchedSkills / requiredSkills;
+        }
+
+        public Job getJob() { return job; }
+        public int getMatchedSkills() { return matchedSkills; }
+        public double getCoverage() { return Math.round(coverage * 100) / 100.0; }
+    }
+}
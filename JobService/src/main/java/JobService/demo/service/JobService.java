@@ -1,18 +1,34 @@
 package JobService.demo.service;
 
+import JobService.demo.client.DependencyUnavailableException;
+import JobService.demo.client.UserClient;
 import JobService.demo.model.Job;
 import JobService.demo.repository.JobRepository;
+import JobService.demo.repository.ReactiveJobRepository;
+import JobService.demo.model.SkillEntry;
+import JobService.demo.search.JobSearchIndex;
+import JobService.demo.search.SkillDictionary;
+import JobService.demo.util.ContinuationToken;
+import JobService.demo.util.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class JobService {
@@ -21,18 +37,82 @@ public class JobService {
     private JobRepository jobRepository;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private ReactiveJobRepository reactiveJobRepository;
+
+    @Autowired
+    private UserClient userClient;
+
+    @Autowired
+    private JobChangeNotifier jobChangeNotifier;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobRecommender jobRecommender;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_EXISTS_BATCH = 1000;
+    private static final int DEFAULT_RECOMMENDATIONS = 10;
+
+    @Value("${recommendations.size:50}")
+    private int maxRecommendations;
 
     public Job createJob(Job job) {
         validateHirer(job.getHirerId());
         validateJobData(job);
-        return jobRepository.save(job);
+        job.setRequiredSkillIds(skillDictionary.internAll(job.getRequiredSkills()));
+        Job saved = jobRepository.save(job);
+        jobSearchIndex.put(saved);
+        jobRecommender.jobPosted(saved);
+        jobChangeNotifier.jobsChanged();
+        return saved;
     }
 
     public List<Job> getAllJobs() {
         return jobRepository.findAll();
     }
 
+    // Unfiltered input for search-and-sort; served from the search index once it is loaded
+    public List<Job> getSearchableJobs() {
+        if (jobSearchIndex.isReady()) {
+            return jobSearchIndex.allJobs();
+        }
+        return jobRepository.findAll();
+    }
+
+    // Backed by a Mongo cursor; the caller must close the stream
+    public Stream<Job> streamAllJobs() {
+        return jobRepository.streamAllBy();
+    }
+
+    public Flux<Job> readAllJobs() {
+        return reactiveJobRepository.findAll();
+    }
+
+    public Mono<Job> readJobById(String id) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job ID cannot be null or empty");
+        }
+        return reactiveJobRepository.findById(id);
+    }
+
+    public Flux<Job> readJobsByHirer(String hirerId) {
+        if (hirerId == null || hirerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Hirer ID cannot be null or empty");
+        }
+        return reactiveJobRepository.findByHirerId(hirerId);
+    }
+
+    public CursorPage<Job> getAllJobs(String cursor, Integer size) {
+        Sort sort = Sort.by(Sort.Direction.ASC, "id");
+        return scroll(sort, cursor, size, (position, limit) -> jobRepository.findAllBy(position, limit, sort));
+    }
+
     public Optional<Job> getJobById(String id) {
         if (id == null || id.trim().isEmpty()) {
             throw new IllegalArgumentException("Job ID cannot be null or empty");
@@ -40,6 +120,18 @@ public class JobService {
         return jobRepository.findById(id);
     }
 
+    public Set<String> findExistingJobIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        if (ids.size() > MAX_EXISTS_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_EXISTS_BATCH + " IDs can be checked per request");
+        }
+        Set<String> existing = new HashSet<>();
+        jobRepository.findByIdIn(ids).forEach(job -> existing.add(job.getId()));
+        return existing;
+    }
+
     public List<Job> getJobsByHirer(String hirerId) {
         if (hirerId == null || hirerId.trim().isEmpty()) {
             throw new IllegalArgumentException("Hirer ID cannot be null or empty");
@@ -47,10 +139,21 @@ public class JobService {
         return jobRepository.findByHirerId(hirerId);
     }
 
+    public CursorPage<Job> getJobsByHirer(String hirerId, String cursor, Integer size) {
+        if (hirerId == null || hirerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Hirer ID cannot be null or empty");
+        }
+        Sort sort = Sort.by(Sort.Direction.DESC, "postedDate");
+        return scroll(sort, cursor, size, (position, limit) -> jobRepository.findByHirerId(hirerId, position, limit, sort));
+    }
+
     public List<Job> searchJobsByCompany(String companyName) {
         if (companyName == null || companyName.trim().isEmpty()) {
             throw new IllegalArgumentException("Company name cannot be null or empty");
         }
+        if (jobSearchIndex.isReady()) {
+            return jobSearchIndex.searchByCompany(companyName);
+        }
         return jobRepository.findByCompanyNameContainingIgnoreCase(companyName);
     }
 
@@ -58,6 +161,9 @@ public class JobService {
         if (jobTitle == null || jobTitle.trim().isEmpty()) {
             throw new IllegalArgumentException("Job title cannot be null or empty");
         }
+        if (jobSearchIndex.isReady()) {
+            return jobSearchIndex.searchByTitle(jobTitle);
+        }
         return jobRepository.findByJobTitleContainingIgnoreCase(jobTitle);
     }
 
@@ -77,11 +183,17 @@ public class JobService {
         job.setExpectedSalary(jobDetails.getExpectedSalary());
         job.setPreference(jobDetails.getPreference());
         job.setRequiredSkills(jobDetails.getRequiredSkills());
+        job.setRequiredSkillIds(skillDictionary.internAll(jobDetails.getRequiredSkills()));
         job.setExperience(jobDetails.getExperience());
         job.setWorkingHours(jobDetails.getWorkingHours());
         job.setPrerequisites(jobDetails.getPrerequisites());
 
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobSearchIndex.put(saved);
+        jobRecommender.jobRemoved(saved.getId());
+        jobRecommender.jobPosted(saved);
+        jobChangeNotifier.jobsChanged();
+        return saved;
     }
 
     public void deleteJob(String id) {
@@ -94,6 +206,10 @@ public class JobService {
         }
 
         jobRepository.deleteById(id);
+        jobSearchIndex.remove(id);
+        jobRecommender.jobRemoved(id);
+        jobChangeNotifier.jobDeleted(id);
+        jobChangeNotifier.jobsChanged();
     }
 
     private void validateHirer(String hirerId) {
@@ -102,18 +218,15 @@ public class JobService {
         }
 
         try {
-            String userServiceUrl = "http://UserService/api/users/" + hirerId;
-            ResponseEntity<UserResponse> response = restTemplate.getForEntity(userServiceUrl, UserResponse.class);
+            Set<String> roles = userClient.findRoles(hirerId)
+                    .orElseThrow(() -> new RuntimeException("User not found with id: " + hirerId));
 
-            if (response.getStatusCode() != HttpStatus.OK) {
-                throw new RuntimeException("User not found with id: " + hirerId);
-            }
-
-            UserResponse user = response.getBody();
-            if (user == null || user.getRoles() == null || !user.getRoles().contains("JOB_HIRER")) {
+            if (!roles.contains("JOB_HIRER")) {
                 throw new RuntimeException("User is not authorized to post jobs. Only JOB_HIRER role allowed.");
             }
 
+        } catch (DependencyUnavailableException e) {
+            throw e;
         } catch (HttpClientErrorException.NotFound e) {
             throw new RuntimeException("User not found with id: " + hirerId);
         } catch (Exception e) {
@@ -121,6 +234,28 @@ public class JobService {
         }
     }
 
+    private void validateAdmin(String adminId) {
+        if (adminId == null || adminId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Admin ID cannot be null or empty");
+        }
+
+        try {
+            Set<String> roles = userClient.findRoles(adminId)
+                    .orElseThrow(() -> new RuntimeException("User not found with id: " + adminId));
+
+            if (!roles.contains("ADMIN")) {
+                throw new RuntimeException("User is not authorized to manage skills. Only ADMIN role allowed.");
+            }
+
+        } catch (DependencyUnavailableException e) {
+            throw e;
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new RuntimeException("User not found with id: " + adminId);
+        } catch (Exception e) {
+            throw new RuntimeException("Error validating user: " + e.getMessage());
+        }
+    }
+
     private void validateJobData(Job job) {
         if (job.getCompanyName() == null || job.getCompanyName().trim().isEmpty()) {
             throw new IllegalArgumentException("Company name is required");
@@ -161,10 +296,63 @@ public class JobService {
                 "HYBRID".equalsIgnoreCase(preference);
     }
 
+    public List<SkillDictionary.Skill> getSkills() {
+        return skillDictionary.skills();
+    }
+
+    public SkillDictionary.Skill addSkillSynonym(String adminId, String skill, String synonym) {
+        validateAdmin(adminId);
+        SkillDictionary.Skill updated = skillDictionary.addSynonym(skill, synonym);
+        jobRecommender.synonymsChanged();
+        jobChangeNotifier.jobsChanged();
+        return updated;
+    }
+
+    public SkillDictionary.Skill removeSkillSynonym(String adminId, String synonym) {
+        validateAdmin(adminId);
+        SkillDictionary.Skill updated = skillDictionary.removeSynonym(synonym);
+        jobRecommender.synonymsChanged();
+        jobChangeNotifier.jobsChanged();
+        return updated;
+    }
+
+    public List<SkillEntry> getSkillEntries() {
+        return skillDictionary.entries();
+    }
+
+    public List<SkillEntry> internSkills(List<String> skills) {
+        return skillDictionary.internEntries(skills);
+    }
+
+    // Precomputed from the skills the seeker listed on past applications
+    public List<JobRecommender.Recommendation> getRecommendations(String jobSeekerId, Integer k) {
+        if (jobSeekerId == null || jobSeekerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job seeker ID cannot be null or empty");
+        }
+        int size = k != null ? k : DEFAULT_RECOMMENDATIONS;
+        if (size < 1 || size > maxRecommendations) {
+            throw new IllegalArgumentException("k must be between 1 and " + maxRecommendations);
+        }
+        if (!jobRecommender.isReady()) {
+            throw new IllegalStateException("Recommendations are not available yet");
+        }
+        return jobRecommender.recommend(jobSeekerId, size);
+    }
+
+    public void addSeekerSkills(String jobSeekerId, List<String> skills) {
+        if (jobSeekerId == null || jobSeekerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job seeker ID cannot be null or empty");
+        }
+        jobRecommender.skillsAdded(jobSeekerId, skills != null ? skills : List.of());
+    }
+
     public List<Job> searchJobsByKeyword(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new IllegalArgumentException("Search keyword cannot be null or empty");
         }
+        if (jobSearchIndex.isReady()) {
+            return jobSearchIndex.searchByKeyword(keyword);
+        }
         return jobRepository.findByCompanyNameContainingIgnoreCaseOrJobTitleContainingIgnoreCase(keyword, keyword);
     }
 
@@ -172,7 +360,10 @@ public class JobService {
         if (skill == null || skill.trim().isEmpty()) {
             throw new IllegalArgumentException("Skill cannot be null or empty");
         }
-        
+        if (jobSearchIndex.isReady()) {
+            return jobSearchIndex.searchBySkill(skill);
+        }
+
         List<Job> allJobs = jobRepository.findAll();
         return allJobs.stream()
                 .filter(job -> job.getRequiredSkills() != null)
@@ -182,6 +373,16 @@ public class JobService {
     }
 
     public List<Job> advancedSearch(String companyName, String jobTitle, List<String> skills, Double minSalary, Double maxSalary) {
+        return advancedSearch(companyName, jobTitle, skills, false, minSalary, maxSalary);
+    }
+
+    // matchAllSkills: a job must match every listed skill instead of any of them
+    public List<Job> advancedSearch(String companyName, String jobTitle, List<String> skills, boolean matchAllSkills,
+                                    Double minSalary, Double maxSalary) {
+        if (jobSearchIndex.isReady()) {
+            return jobSearchIndex.advancedSearch(companyName, jobTitle, skills, matchAllSkills, minSalary, maxSalary);
+        }
+
         List<Job> allJobs = jobRepository.findAll();
         
         return allJobs.stream()
@@ -190,10 +391,12 @@ public class JobService {
                 .filter(job -> jobTitle == null || 
                         (job.getJobTitle() != null && job.getJobTitle().toLowerCase().contains(jobTitle.toLowerCase())))
                 .filter(job -> skills == null || skills.isEmpty() || 
-                        (job.getRequiredSkills() != null && 
-                         job.getRequiredSkills().stream()
-                            .anyMatch(jobSkill -> skills.stream()
-                                .anyMatch(searchSkill -> jobSkill.toLowerCase().contains(searchSkill.toLowerCase())))))
+                        (job.getRequiredSkills() != null && (matchAllSkills
+                            ? skills.stream().allMatch(searchSkill -> job.getRequiredSkills().stream()
+                                .anyMatch(jobSkill -> jobSkill.toLowerCase().contains(searchSkill.toLowerCase())))
+                            : job.getRequiredSkills().stream()
+                                .anyMatch(jobSkill -> skills.stream()
+                                    .anyMatch(searchSkill -> jobSkill.toLowerCase().contains(searchSkill.toLowerCase()))))))
                 .filter(job -> minSalary == null || 
                         (job.getExpectedSalary() != null && job.getExpectedSalary() >= minSalary))
                 .filter(job -> maxSalary == null || 
@@ -206,20 +409,73 @@ public class JobService {
                         : jobRepository.findAllByOrderByPostedDateDesc();
     }
 
+    public CursorPage<Job> getAllJobsSortedByDate(boolean ascending, String cursor, Integer size) {
+        Sort sort = Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, "postedDate");
+        return scroll(sort, cursor, size, (position, limit) -> ascending
+                ? jobRepository.findAllByOrderByPostedDateAsc(position, limit)
+                : jobRepository.findAllByOrderByPostedDateDesc(position, limit));
+    }
+
     public List<Job> getAllJobsSortedBySalary(boolean ascending) {
         return ascending ? jobRepository.findAllByOrderByExpectedSalaryAsc() 
                         : jobRepository.findAllByOrderByExpectedSalaryDesc();
     }
 
+    public CursorPage<Job> getAllJobsSortedBySalary(boolean ascending, String cursor, Integer size) {
+        Sort sort = Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, "expectedSalary");
+        return scroll(sort, cursor, size, (position, limit) -> ascending
+                ? jobRepository.findAllByOrderByExpectedSalaryAsc(position, limit)
+                : jobRepository.findAllByOrderByExpectedSalaryDesc(position, limit));
+    }
+
     public List<Job> getAllJobsSortedByCompany() {
         return jobRepository.findAllByOrderByCompanyNameAsc();
     }
 
+    public CursorPage<Job> getAllJobsSortedByCompany(String cursor, Integer size) {
+        Sort sort = Sort.by(Sort.Direction.ASC, "companyName");
+        return scroll(sort, cursor, size, (position, limit) -> jobRepository.findAllByOrderByCompanyNameAsc(position, limit));
+    }
+
+    // Keyset pagination helper: seeks past the cursor's (sort field, _id) instead of skipping rows
+    private CursorPage<Job> scroll(Sort sort, String cursor, Integer size,
+                                   BiFunction<KeysetScrollPosition, Limit, Window<Job>> query) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        KeysetScrollPosition position = ContinuationToken.decode(sort, cursor);
+        Window<Job> window = query.apply(position, Limit.of(pageSize));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = ContinuationToken.encode(sort, window.positionAt(window.size() - 1));
+        }
+        return new CursorPage<>(window.getContent(), pageSize, window.hasNext(), nextCursor);
+    }
+
     public List<Job> sortJobs(List<Job> jobs, String sortBy, String sortOrder) {
+        return sortJobs(jobs, sortBy, sortOrder, null);
+    }
+
+    // limit: return only the first N jobs of the sorted order
+    public List<Job> sortJobs(List<Job> jobs, String sortBy, String sortOrder, Integer limit) {
         if (jobs == null) {
             return new ArrayList<>();
         }
-        
+        if (limit != null && limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        int effectiveLimit = limit != null ? limit : jobs.size();
+
+        if (jobSearchIndex.isReady()) {
+            List<Job> sorted = jobSearchIndex.sort(jobs, sortBy, !"desc".equalsIgnoreCase(sortOrder), effectiveLimit);
+            if (sorted != null) {
+                return sorted;
+            }
+        }
+
         List<Job> sortedJobs = new ArrayList<>(jobs);
         boolean ascending = !"desc".equalsIgnoreCase(sortOrder);
         
@@ -267,28 +523,6 @@ public class JobService {
                 sortedJobs.sort((j1, j2) -> j2.getPostedDate().compareTo(j1.getPostedDate()));
         }
         
-        return sortedJobs;
-    }
-
-    public static class UserResponse {
-        private String id;
-        private String username;
-        private String email;
-        private java.util.Set<String> roles;
-        private String phone;
-        private String companyName;
-
-        public String getId() { return id; }
-        public void setId(String id) { this.id = id; }
-        public String getUsername() { return username; }
-        public void setUsername(String username) { this.username = username; }
-        public String getEmail() { return email; }
-        public void setEmail(String email) { this.email = email; }
-        public java.util.Set<String> getRoles() { return roles; }
-        public void setRoles(java.util.Set<String> roles) { this.roles = roles; }
-        public String getPhone() { return phone; }
-        public void setPhone(String phone) { this.phone = phone; }
-        public String getCompanyName() { return companyName; }
-        public void setCompanyName(String companyName) { this.companyName = companyName; }
+        return effectiveLimit < sortedJobs.size() ? new ArrayList<>(sortedJobs.subList(0, effectiveLimit)) : sortedJobs;
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package JobService.demo.util;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    private final List<T> items;
+    private final int size;
+    private final boolean hasMore;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, int size, boolean hasMore, String nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.hasMore = hasMore;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public int getSize() { return size; }
+    public boolean isHasMore() { return hasMore; }
+    public String getNextCursor() { return nextCursor; }
+}
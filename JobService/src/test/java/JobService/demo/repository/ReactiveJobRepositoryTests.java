@@ -0,0 +1,68 @@
+package JobService.demo.repository;
+
+import JobService.demo.model.Job;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveJobRepositoryTests {
+
+	@Test
+	void pullsFromTheCursorOnlyAsFarAsRequestedAndClosesItOnCancel() throws Exception {
+		AtomicInteger pulled = new AtomicInteger();
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Job> cursor = IntStream.range(0, 1000)
+				.mapToObj(i -> {
+					pulled.incrementAndGet();
+					return job("job-" + i);
+				})
+				.onClose(() -> closed.set(true));
+		JobRepository jobRepository = mock(JobRepository.class);
+		when(jobRepository.streamAllBy()).thenReturn(cursor);
+		ReactiveJobRepository repository = new ReactiveJobRepository(2, 100);
+		ReflectionTestUtils.setField(repository, "jobRepository", jobRepository);
+
+		List<String> received = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(1);
+		repository.findAll().subscribe(new BaseSubscriber<Job>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(3);
+			}
+
+			@Override
+			protected void hookOnNext(Job job) {
+				received.add(job.getId());
+				if (received.size() == 3) {
+					cancel();
+					done.countDown();
+				}
+			}
+		});
+
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of("job-0", "job-1", "job-2"), received);
+		assertTrue(pulled.get() <= 4, "pulled " + pulled.get());
+		assertTrue(closed.get());
+		repository.shutdown();
+	}
+
+	private static Job job(String id) {
+		Job job = new Job();
+		job.setId(id);
+		return job;
+	}
+}
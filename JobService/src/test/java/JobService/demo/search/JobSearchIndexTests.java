@@ -0,0 +1,123 @@
+package JobService.demo.search;
+
+import JobService.demo.model.Job;
+import JobService.demo.model.SkillEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSearchIndexTests {
+
+	@Test
+	void matchesSubstringsIgnoringCase() {
+		JobSearchIndex index = newIndex(new ArrayList<>());
+		index.put(job("1", "Acme", "Senior Java Developer"));
+		index.put(job("2", "JavaSoft", "Designer"));
+		index.put(job("3", "Globex", "Accountant"));
+
+		assertEquals(List.of("1", "2"), ids(index.searchByKeyword("JAVA")));
+		assertEquals(List.of("1"), ids(index.searchByTitle("ava dev")));
+		assertEquals(List.of("3"), ids(index.searchByCompany("lo")));
+		assertTrue(index.searchByTitle("python").isEmpty());
+	}
+
+	@Test
+	void ranksExactThenWordStartThenSubstring() {
+		JobSearchIndex index = newIndex(new ArrayList<>());
+		index.put(job("1", "Acme", "Scalajava Engineer"));
+		index.put(job("2", "Acme", "Java"));
+		index.put(job("3", "Acme", "Backend (Java)"));
+
+		assertEquals(List.of("2", "3", "1"), ids(index.searchByTitle("java")));
+	}
+
+	@Test
+	void combinesSkillMatchesAsUnionOrIntersection() {
+		JobSearchIndex index = newIndex(new ArrayList<>());
+		index.put(job("1", "Acme", "Frontend", 50000.0, "JavaScript", "React"));
+		index.put(job("2", "Acme", "Backend", 70000.0, "Java", "Spring"));
+		index.put(job("3", "Acme", "Data", 90000.0, "Python"));
+
+		assertEquals(List.of("1", "2"), ids(index.searchBySkill("java")));
+		assertEquals(List.of("1", "2", "3"), ids(index.advancedSearch(null, null, List.of("react", "spring", "python"), false, null, null)));
+		assertEquals(List.of("2"), ids(index.advancedSearch(null, null, List.of("java", "spring"), true, null, null)));
+		assertEquals(List.of("2"), ids(index.advancedSearch("acme", null, List.of("java"), false, 60000.0, null)));
+	}
+
+	@Test
+	void matchesSkillsThroughSynonyms() {
+		List<SkillEntry> skills = new ArrayList<>();
+		skills.add(new SkillEntry(1, "javascript"));
+		skills.add(SkillDictionaryTests.synonym(2, "js", 1));
+		JobSearchIndex index = newIndex(skills);
+		index.put(job("1", "Acme", "Frontend", 50000.0, "JavaScript"));
+		index.put(job("2", "Acme", "Node", 60000.0, " JS "));
+		index.put(job("3", "Acme", "Backend", 70000.0, "Java", "JAVA"));
+
+		assertEquals(List.of("1", "2"), ids(index.searchBySkill("js")));
+		assertEquals(List.of("1", "2"), ids(index.advancedSearch(null, null, List.of("javascript"), true, null, null)));
+		assertEquals(List.of("1", "2", "3"), ids(index.searchBySkill("JAVA")));
+
+		Job both = job("4", "Acme", "Fullstack", 80000.0, "js", "javascript", "java");
+		index.put(both);
+		assertEquals(2, index.countSkillMatches(new int[] { 1, 3 }).get(both));
+	}
+
+	@Test
+	void sortsFromIndexesAndStopsAtLimit() {
+		JobSearchIndex index = newIndex(new ArrayList<>());
+		index.put(job("1", "beta", "Backend", 70000.0, "Java"));
+		index.put(job("2", "Alpha", "Data", null, "Python"));
+		index.put(job("3", "gamma", "Frontend", 50000.0, "React"));
+
+		List<Job> all = index.allJobs();
+		assertEquals(List.of("2", "3", "1"), ids(index.sort(all, "salary", true, 10)));
+		assertEquals(List.of("1", "3"), ids(index.sort(all, "salary", false, 2)));
+		assertEquals(List.of("2", "1", "3"), ids(index.sort(all, "company", true, 10)));
+		assertEquals(List.of("1", "3"), ids(index.advancedSearch(null, null, null, false, 40000.0, 80000.0)));
+		assertNull(index.sort(List.of(job("9", "x", "y")), "salary", true, 10));
+	}
+
+	@Test
+	void followsUpdatesAndDeletes() {
+		JobSearchIndex index = newIndex(new ArrayList<>());
+		index.put(job("1", "Acme", "Java Developer"));
+		index.put(job("1", "Acme", "Go Developer"));
+
+		assertTrue(index.searchByTitle("java").isEmpty());
+		assertEquals(List.of("1"), ids(index.searchByTitle("go dev")));
+
+		index.remove("1");
+		assertTrue(index.searchByKeyword("acme").isEmpty());
+		assertEquals(0, index.size());
+	}
+
+	private static JobSearchIndex newIndex(List<SkillEntry> skills) {
+		JobSearchIndex index = new JobSearchIndex();
+		ReflectionTestUtils.setField(index, "skillDictionary", SkillDictionaryTests.inMemory(skills));
+		return index;
+	}
+
+	private static Job job(String id, String company, String title) {
+		Job job = new Job();
+		job.setId(id);
+		job.setCompanyName(company);
+		job.setJobTitle(title);
+		return job;
+	}
+
+	private static Job job(String id, String company, String title, Double salary, String... skills) {
+		Job job = job(id, company, title);
+		job.setExpectedSalary(salary);
+		job.setRequiredSkills(List.of(skills));
+		return job;
+	}
+
+	private static List<String> ids(List<Job> jobs) {
+		return jobs.stream().map(Job::getId).toList();
+	}
+}
@@ -0,0 +1,87 @@
+package JobService.demo.search;
+
+import JobService.demo.model.SkillEntry;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SkillDictionaryTests {
+
+	@Test
+	void internsSpellingVariantsToOneId() {
+		SkillDictionary dictionary = inMemory(new ArrayList<>());
+
+		int java = dictionary.intern("java");
+		assertEquals(java, dictionary.intern(" Java "));
+		assertEquals(java, dictionary.intern("JAVA"));
+		assertEquals(dictionary.intern("spring boot"), dictionary.intern("Spring   Boot"));
+		assertNotEquals(java, dictionary.intern("javascript"));
+		assertEquals(0, dictionary.intern("  "));
+		assertArrayEquals(new int[] { java, 0, java }, dictionary.internAll(Arrays.asList("Java", "", "JAVA")));
+	}
+
+	@Test
+	void internsEveryMissingNameInOnePass() {
+		List<SkillEntry> stored = new ArrayList<>();
+		stored.add(new SkillEntry(1, "java"));
+		SkillDictionary dictionary = inMemory(stored);
+
+		List<SkillEntry> entries = dictionary.internEntries(Arrays.asList("Go", "Java", " ", "rust", "GO"));
+
+		assertEquals(List.of("go", "java", "rust", "go"), entries.stream().map(SkillEntry::getName).toList());
+		assertEquals(3, stored.size());
+		assertArrayEquals(new int[] { 2, 1, 3 }, dictionary.internAll(List.of("go", "java", "Rust")));
+		assertEquals(3, stored.size());
+	}
+
+	@Test
+	void expandsMatchesToSynonyms() {
+		List<SkillEntry> stored = new ArrayList<>();
+		stored.add(new SkillEntry(1, "javascript"));
+		stored.add(synonym(2, "js", 1));
+		stored.add(new SkillEntry(3, "java"));
+		SkillDictionary dictionary = inMemory(stored);
+
+		assertEquals(1, dictionary.canonical(2));
+		assertArrayEquals(new int[] { 1, 2 }, dictionary.matching("JS"));
+		assertArrayEquals(new int[] { 1, 2, 3 }, dictionary.matching("java"));
+		assertArrayEquals(new int[] { 1, 3 }, dictionary.canonicalSet(new int[] { 2, 3, 1 }));
+		assertEquals(List.of("js"), dictionary.skills().get(1).getSynonyms());
+	}
+
+	static SkillEntry synonym(int id, String name, int canonicalId) {
+		SkillEntry entry = new SkillEntry(id, name);
+		entry.setCanonicalId(canonicalId);
+		return entry;
+	}
+
+	// Dictionary over a list standing in for the skills collection
+	static SkillDictionary inMemory(List<SkillEntry> stored) {
+		MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+		AtomicInteger sequence = new AtomicInteger(stored.size());
+		when(mongoTemplate.findAll(SkillEntry.class)).thenAnswer(call -> new ArrayList<>(stored));
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(Document.class), anyString()))
+				.thenAnswer(call -> new Document("seq", sequence.incrementAndGet()));
+		when(mongoTemplate.insert(any(SkillEntry.class))).thenAnswer(call -> {
+			stored.add(call.getArgument(0));
+			return call.getArgument(0);
+		});
+
+		SkillDictionary dictionary = new SkillDictionary();
+		ReflectionTestUtils.setField(dictionary, "mongoTemplate", mongoTemplate);
+		return dictionary;
+	}
+}
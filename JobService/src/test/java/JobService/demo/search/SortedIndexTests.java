@@ -0,0 +1,73 @@
+package JobService.demo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedIndexTests {
+
+	@Test
+	void bulkLoadMatchesIncrementalInserts() {
+		Random random = new Random(42);
+		SortedIndex.OfDouble incremental = new SortedIndex.OfDouble();
+		SortedIndex.OfDouble bulk = new SortedIndex.OfDouble();
+		bulk.beginBulkLoad();
+		for (int doc = 0; doc < 2000; doc++) {
+			// Few distinct values and some missing ones, so ties and nulls are exercised
+			Double value = random.nextInt(10) == 0 ? null : (double) random.nextInt(50);
+			incremental.add(doc, value);
+			bulk.add(doc, value);
+		}
+		bulk.finishBulkLoad();
+
+		assertEquals(scan(incremental, true), scan(bulk, true));
+		assertEquals(scan(incremental, false), scan(bulk, false));
+	}
+
+	@Test
+	void insertsAfterBulkLoadKeepTheOrder() {
+		SortedIndex.OfText index = new SortedIndex.OfText();
+		index.beginBulkLoad();
+		index.add(0, "Zeta");
+		index.add(1, "alpha");
+		index.add(2, "Mid");
+		index.finishBulkLoad();
+		index.add(3, "beta");
+
+		assertEquals(List.of(1, 3, 2, 0), scan(index, true));
+	}
+
+	@Test
+	void smallFiltersAreSortedDirectlyInIndexOrder() {
+		Random random = new Random(7);
+		SortedIndex.OfDouble index = new SortedIndex.OfDouble();
+		for (int doc = 0; doc < 2000; doc++) {
+			index.add(doc, random.nextInt(10) == 0 ? null : (double) random.nextInt(50));
+		}
+		BitSet few = new BitSet();
+		for (int i = 0; i < 20; i++) {
+			few.set(random.nextInt(2000));
+		}
+
+		for (boolean ascending : new boolean[] { true, false }) {
+			List<Integer> expected = new ArrayList<>(scan(index, ascending));
+			expected.removeIf(doc -> !few.get(doc));
+			List<Integer> docs = new ArrayList<>();
+			index.scan(ascending, few, docs::add);
+			assertEquals(expected, docs);
+		}
+	}
+
+	private static List<Integer> scan(SortedIndex index, boolean ascending) {
+		BitSet all = new BitSet();
+		all.set(0, 10_000);
+		List<Integer> docs = new ArrayList<>();
+		index.scan(ascending, all, docs::add);
+		return docs;
+	}
+}
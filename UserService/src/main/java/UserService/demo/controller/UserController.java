@@ -97,6 +97,19 @@ public class UserController {
         return user.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/exists")
+    public ResponseEntity<?> findExistingUsers(@RequestBody List<String> ids) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("existing", userService.findExistingUserIds(ids));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errors = new HashMap<>();
+            errors.put("ids", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errors);
+        }
+    }
+
     @GetMapping("/username/{username}")
     public ResponseEntity<User> getUserByUsername(@PathVariable String username) {
         Optional<User> user = userService.getUserByUsername(username);
@@ -2,6 +2,8 @@ package UserService.demo.repository;
 
 import UserService.demo.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends MongoRepository<User, String> {
@@ -9,4 +11,9 @@ public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    List<IdOnly> findByIdIn(Collection<String> ids);
+
+    interface IdOnly {
+        String getId();
+    }
 }
@@ -0,0 +1,71 @@
+package UserService.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Tells services that cache user lookups to drop a user after it changes.
+// Best effort: a missed notification is bounded by the subscribers' cache TTL.
+@Component
+public class UserChangeNotifier {
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Value("${users.change-subscribers:JobService,ApplicationService}")
+    private List<String> subscribers;
+
+    private final RestTemplate restTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-change-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserChangeNotifier(RestTemplateBuilder restTemplateBuilder) {
+        this.restTemplate = restTemplateBuilder
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    public void userChanged(String userId) {
+        executor.execute(() -> notifySubscribers(userId));
+    }
+
+    private void notifySubscribers(String userId) {
+        for (String subscriber : subscribers) {
+            List<ServiceInstance> instances;
+            try {
+                instances = discoveryClient.getInstances(subscriber);
+            } catch (Exception e) {
+                System.err.println("ERROR resolving instances of " + subscriber + ": " + e.getMessage());
+                continue;
+            }
+            // Every instance keeps its own cache, so each one must be told
+            for (ServiceInstance instance : instances) {
+                try {
+                    restTemplate.delete(instance.getUri() + "/internal/cache/users/{id}", userId);
+                } catch (Exception e) {
+                    System.err.println("ERROR invalidating user " + userId + " on " + instance.getUri() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
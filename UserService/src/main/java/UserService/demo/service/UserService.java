@@ -15,12 +15,17 @@ import java.util.HashSet;
 @Service
 public class UserService {
 
+    private static final int MAX_EXISTS_BATCH = 1000;
+
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserChangeNotifier userChangeNotifier;
+
     private void validatePasswordStrength(String password) {
         if (password == null || password.length() < 8) {
             throw new PasswordStrengthException("Password is too weak: must be at least 8 characters");
@@ -67,6 +72,18 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    public Set<String> findExistingUserIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        if (ids.size() > MAX_EXISTS_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_EXISTS_BATCH + " IDs can be checked per request");
+        }
+        Set<String> existing = new HashSet<>();
+        userRepository.findByIdIn(ids).forEach(user -> existing.add(user.getId()));
+        return existing;
+    }
+
     public Optional<User> getUserByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -90,23 +107,28 @@ public class UserService {
         if (userDetails.getRoles() != null && !userDetails.getRoles().isEmpty()) {
             user.setRoles(userDetails.getRoles());
         }
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userChangeNotifier.userChanged(id);
+        return savedUser;
     }
 
     public void deleteUser(String id) {
         userRepository.deleteById(id);
+        userChangeNotifier.userChanged(id);
     }
 
     public void assignRole(String id, String role) {
         User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
         user.getRoles().add(role);
         userRepository.save(user);
+        userChangeNotifier.userChanged(id);
     }
 
     public void removeRole(String id, String role) {
         User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
         user.getRoles().remove(role);
         userRepository.save(user);
+        userChangeNotifier.userChanged(id);
     }
 
     public Set<String> getUserRoles(String id) {